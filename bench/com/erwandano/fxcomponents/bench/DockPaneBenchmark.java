@@ -0,0 +1,108 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.DockPane;
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tool panels on the left, right and bottom of a content : three nested SplitTabPanes or one DockPane.
+ * Measures the CSS and layout passes after a window resize, and counts the nodes of the scene graph.
+ * No tab is added so that the benchmark runs without fonts, the TabPanes are the same in both layouts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DockPaneBenchmark {
+
+    @Param({"nested", "dock"})
+    public String layout;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Nodes {
+        public long nodes;
+
+        public long resizes;
+    }
+
+    private Region root;
+
+    private int step;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        FXToolkit.runAndWait(() -> {
+            if("dock".equals(layout)) {
+                DockPane dockPane = new DockPane(new Pane());
+                dockPane.setSavedSize(Side.LEFT, 250);
+                dockPane.setSavedSize(Side.RIGHT, 300);
+                dockPane.setSavedSize(Side.BOTTOM, 200);
+                dockPane.show(Side.LEFT);
+                dockPane.show(Side.RIGHT);
+                dockPane.show(Side.BOTTOM);
+                root = dockPane;
+            } else {
+                SplitTabPane left = new SplitTabPane();
+                left.setSide(Side.LEFT);
+                SplitTabPane right = new SplitTabPane();
+                right.setSide(Side.RIGHT);
+                SplitTabPane bottom = new SplitTabPane();
+                bottom.setSide(Side.BOTTOM);
+                bottom.setContent(new Pane());
+                right.setContent(bottom);
+                left.setContent(right);
+                left.showTabPane();
+                right.showTabPane();
+                bottom.showTabPane();
+                root = left;
+            }
+            new Scene(root, 1200, 800);
+            pulse();
+            return null;
+        });
+    }
+
+    private void pulse(){
+        root.applyCss();
+        root.layout();
+    }
+
+    private static int count(Node node){
+        int count = 1;
+        if(node instanceof Parent){
+            for(Node child : ((Parent) node).getChildrenUnmodifiable()){
+                count += count(child);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public Region resize(Nodes counter){
+        return FXToolkit.runAndWait(() -> {
+            step = (step + 1) % 200;
+            root.resize(1000 + step, 700 + step);
+            pulse();
+            counter.nodes += count(root);
+            counter.resizes++;
+            return root;
+        });
+    }
+}
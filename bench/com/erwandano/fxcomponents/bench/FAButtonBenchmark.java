@@ -0,0 +1,82 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.buttons.FAButton;
+import org.controlsfx.glyphfont.FontAwesome;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Icon assignment on a FAButton.
+ * scanLookup reproduces the former linear scan over FontAwesome.Glyph.values() to compare it with findGlyph.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FAButtonBenchmark {
+
+    private static final String[] ICONS = {"APPLE", "bell", "Camera", "TRASH", "user", "WRENCH"};
+
+    private int index;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+    }
+
+    /**
+     * The button is only created by the benchmarks that need it, the lookups do not need the font
+     */
+    @State(Scope.Thread)
+    public static class Button {
+        FAButton button;
+
+        @Setup
+        public void setup(){
+            FXToolkit.start();
+            button = new FAButton();
+            button.setIcon(ICONS[0]);
+        }
+    }
+
+    private String nextIcon(){
+        index = (index + 1) % ICONS.length;
+        return ICONS[index];
+    }
+
+    @Benchmark
+    public FontAwesome.Glyph scanLookup(){
+        String icon = nextIcon();
+        FontAwesome.Glyph found = null;
+        for( FontAwesome.Glyph glyph : FontAwesome.Glyph.values()){
+            if(glyph.name().compareToIgnoreCase(icon) == 0){
+                found = glyph;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public FontAwesome.Glyph indexedLookup(){
+        return FAButton.findGlyph(nextIcon());
+    }
+
+    @Benchmark
+    public FAButton setIcon(Button state){
+        state.button.setIcon(nextIcon());
+        return state.button;
+    }
+
+    @Benchmark
+    public FAButton setSize(Button state){
+        state.button.setSize(12 + index);
+        index = (index + 1) % 8;
+        return state.button;
+    }
+}
@@ -0,0 +1,68 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.sun.javafx.application.PlatformImpl;
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Starts the JavaFX toolkit for the benchmarks.
+ * Unless told otherwise, the headless Monocle platform and the software pipeline are used so that the
+ * benchmarks can run on a machine without a display.
+ */
+public final class FXToolkit {
+
+    private static boolean started = false;
+
+    private FXToolkit(){
+    }
+
+    /**
+     * Start the toolkit once per JVM
+     */
+    public static synchronized void start(){
+        if(started)
+            return;
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        setDefault("java.awt.headless", "true");
+        CountDownLatch latch = new CountDownLatch(1);
+        PlatformImpl.startup(latch::countDown);
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting the JavaFX toolkit", e);
+        }
+        Platform.setImplicitExit(false);
+        started = true;
+    }
+
+    /**
+     * Run a task on the JavaFX Application Thread and wait for its result
+     */
+    public static <T> T runAndWait(Callable<T> callable){
+        if(Platform.isFxApplicationThread()){
+            try {
+                return callable.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        FutureTask<T> task = new FutureTask<>(callable);
+        Platform.runLater(task);
+        try {
+            return task.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void setDefault(String key, String value){
+        if(System.getProperty(key)==null)
+            System.setProperty(key, value);
+    }
+}
@@ -0,0 +1,106 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.CheckBoxMenuItem;
+import com.erwandano.fxcomponents.InfoItem;
+import com.erwandano.fxcomponents.TextProgressBar;
+import com.erwandano.fxcomponents.TextProgressIndicator;
+import com.erwandano.fxcomponents.buttons.FAButton;
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Retained heap per instance of each component, before it is shown (no skin).
+ * The "bytesPerInstance" secondary result is the growth of the used heap, after a full GC, when creating
+ * a batch of instances and keeping them reachable. It is measured once per fork, without warmup : JMH sums
+ * event counters across iterations, and the heap of later iterations is skewed by the previous ones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-XX:+UseSerialGC", "-Xms1g", "-Xmx1g"})
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class FootprintBenchmark {
+
+    @Param({"TextProgressBar", "TextProgressIndicator", "InfoItem", "CheckBoxMenuItem", "SplitTabPane", "FAButton"})
+    public String component;
+
+    @Param({"10000"})
+    public int instances;
+
+    private Supplier<Object> factory;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long bytesPerInstance;
+    }
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        switch (component){
+            case "TextProgressBar":
+                factory = TextProgressBar::new;
+                break;
+            case "TextProgressIndicator":
+                factory = TextProgressIndicator::new;
+                break;
+            case "InfoItem":
+                factory = InfoItem::new;
+                break;
+            case "CheckBoxMenuItem":
+                factory = CheckBoxMenuItem::new;
+                break;
+            case "SplitTabPane":
+                factory = SplitTabPane::new;
+                break;
+            case "FAButton":
+                factory = FAButton::new;
+                break;
+            default:
+                throw new IllegalArgumentException(component);
+        }
+    }
+
+    /**
+     * The instances created, kept reachable while the heap is measured
+     */
+    private Object[] retained;
+
+    @Benchmark
+    public void retained(Footprint footprint){
+        retained = null;
+        long before = usedHeap();
+        retained = new Object[instances];
+        for(int i=0; i<instances; i++){
+            retained[i] = factory.get();
+        }
+        long after = usedHeap();
+        footprint.bytesPerInstance = (after - before) / instances;
+    }
+
+    private static long usedHeap(){
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for(int i=0; i<3; i++){
+            memory.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,151 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.FAFont;
+import com.erwandano.fxcomponents.buttons.FAButton;
+import com.erwandano.fxcomponents.buttons.IconButton;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.HBox;
+import javafx.scene.paint.Color;
+import org.controlsfx.glyphfont.Glyph;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hover sweep over a large toolbar of icon buttons.
+ * SWAP_GRAPHIC reproduces the former IconButton, which swapped between two glyph nodes on hover,
+ * PSEUDO_CLASS is the current single glyph IconButton.
+ * The number of nodes in the scene graph and the number of glyph nodes created by the buttons, counted in their
+ * createGlyph() since the setup, are reported as the "nodes" and "glyphs" secondary results.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IconButtonHoverBenchmark {
+
+    public enum HoverMode { SWAP_GRAPHIC, PSEUDO_CLASS }
+
+    @Param({"PSEUDO_CLASS", "SWAP_GRAPHIC"})
+    public HoverMode mode;
+
+    @Param({"500"})
+    public int buttons;
+
+    private HBox toolbar;
+
+    private List<FAButton> toolbarButtons;
+
+    private Method setHover;
+
+    /**
+     * The number of glyph nodes created by the buttons of the toolbar
+     */
+    private static long createdGlyphs;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class NodeCount {
+        public long nodes;
+        public long glyphs;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        FXToolkit.start();
+        setHover = Node.class.getDeclaredMethod("setHover", boolean.class);
+        setHover.setAccessible(true);
+        toolbar = new HBox();
+        toolbarButtons = new ArrayList<>(buttons);
+        createdGlyphs = 0;
+        for(int i=0; i<buttons; i++){
+            FAButton button = mode == HoverMode.PSEUDO_CLASS ? new CountingIconButton() : new SwapIconButton();
+            button.setIcon("BELL");
+            toolbarButtons.add(button);
+        }
+        toolbar.getChildren().addAll(toolbarButtons);
+        new Scene(toolbar);
+        pulse();
+    }
+
+    @Benchmark
+    public void hoverSweep(NodeCount count) throws Exception {
+        for(FAButton button : toolbarButtons){
+            hover(button, true);
+            pulse();
+            hover(button, false);
+        }
+        pulse();
+        count.nodes = countNodes(toolbar);
+        count.glyphs = createdGlyphs;
+    }
+
+    private void hover(FAButton button, boolean hovered) throws Exception {
+        setHover.invoke(button, hovered);
+        if(button instanceof SwapIconButton)
+            ((SwapIconButton) button).swap(hovered);
+    }
+
+    private void pulse(){
+        toolbar.applyCss();
+        toolbar.layout();
+    }
+
+    private static long countNodes(Node node){
+        long count = 1;
+        if(node instanceof Parent){
+            for(Node child : ((Parent) node).getChildrenUnmodifiable()){
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The current IconButton, counting the glyph nodes it creates
+     */
+    public static class CountingIconButton extends IconButton {
+
+        @Override
+        protected Glyph createGlyph(char glyphChar){
+            createdGlyphs++;
+            return super.createGlyph(glyphChar);
+        }
+    }
+
+    /**
+     * The former IconButton : two glyphs per button, swapped on hover
+     */
+    public static class SwapIconButton extends FAButton {
+
+        private Glyph hoveredGlyph;
+
+        public SwapIconButton(){
+            getStyleClass().add("icon-button");
+        }
+
+        @Override
+        protected Glyph createGlyph(char glyphChar){
+            createdGlyphs += 2;
+            hoveredGlyph = FAFont.get().create(glyphChar).size(getSize()).color(Color.GRAY);
+            return FAFont.get().create(glyphChar).size(getSize()).color(Color.BLACK);
+        }
+
+        void swap(boolean hovered){
+            setGraphic(hovered ? hoveredGlyph : iconGlyph);
+        }
+    }
+}
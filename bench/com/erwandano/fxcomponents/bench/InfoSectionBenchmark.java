@@ -0,0 +1,96 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.InfoItem;
+import com.erwandano.fxcomponents.InfoRecord;
+import com.erwandano.fxcomponents.InfoSection;
+import com.erwandano.fxcomponents.InfoView;
+import javafx.scene.Scene;
+import javafx.scene.layout.AnchorPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building an info panel and showing it for the first time : every row as an InfoItem of a flat InfoView,
+ * or grouped in collapsed InfoSections. Also expanding one section of an already displayed panel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InfoSectionBenchmark {
+
+    @Param({"20"})
+    public int sections;
+
+    @Param({"100"})
+    public int rowsPerSection;
+
+    private List<List<InfoRecord>> records;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        records = new ArrayList<>();
+        for(int s=0; s<sections; s++){
+            List<InfoRecord> section = new ArrayList<>();
+            for(int i=0; i<rowsPerSection; i++){
+                section.add(new InfoRecord("Label " + s + "." + i, "Value " + i));
+            }
+            records.add(section);
+        }
+    }
+
+    private static AnchorPane show(InfoView infoView){
+        AnchorPane parent = new AnchorPane(infoView);
+        AnchorPane.setLeftAnchor(infoView, 0d);
+        AnchorPane.setRightAnchor(infoView, 0d);
+        new Scene(parent, 800, 600);
+        parent.applyCss();
+        parent.layout();
+        return parent;
+    }
+
+    @Benchmark
+    public AnchorPane flat(){
+        InfoView infoView = new InfoView();
+        for(List<InfoRecord> section : records){
+            for(InfoRecord record : section){
+                InfoItem item = new InfoItem(record.getLabel());
+                item.setText(record.getText());
+                infoView.getChildren().add(item);
+            }
+        }
+        return show(infoView);
+    }
+
+    @Benchmark
+    public AnchorPane sectioned(){
+        InfoView infoView = new InfoView();
+        for(int s=0; s<sections; s++){
+            infoView.addSection("Section " + s, records.get(s));
+        }
+        return show(infoView);
+    }
+
+    @Benchmark
+    public AnchorPane expandOne(){
+        InfoView infoView = new InfoView();
+        for(int s=0; s<sections; s++){
+            infoView.addSection("Section " + s, records.get(s));
+        }
+        AnchorPane parent = show(infoView);
+        ((InfoSection) infoView.getChildren().get(0)).setExpanded(true);
+        parent.applyCss();
+        parent.layout();
+        return parent;
+    }
+}
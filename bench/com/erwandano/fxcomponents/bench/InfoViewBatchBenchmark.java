@@ -0,0 +1,81 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.InfoItem;
+import com.erwandano.fxcomponents.InfoView;
+import javafx.scene.Scene;
+import javafx.scene.layout.AnchorPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refreshing the text of every row of an InfoView, one item at a time or inside InfoView.update(),
+ * followed by the CSS and layout passes of the next pulse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InfoViewBatchBenchmark {
+
+    @Param({"1000"})
+    public int rows;
+
+    private AnchorPane parent;
+
+    private InfoView infoView;
+
+    private InfoItem[] items;
+
+    private int generation;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        infoView = new InfoView();
+        items = new InfoItem[rows];
+        for(int i=0; i<rows; i++){
+            items[i] = new InfoItem("Label " + i);
+            items[i].setText("Value " + i);
+        }
+        infoView.getChildren().addAll(items);
+        parent = new AnchorPane(infoView);
+        AnchorPane.setLeftAnchor(infoView, 0d);
+        AnchorPane.setRightAnchor(infoView, 0d);
+        new Scene(parent, 800, 600);
+        pulse();
+    }
+
+    private void pulse(){
+        parent.applyCss();
+        parent.layout();
+    }
+
+    @Benchmark
+    public InfoView perItem(){
+        generation++;
+        for(int i=0; i<rows; i++){
+            items[i].setText("Value " + i + " / " + generation);
+        }
+        pulse();
+        return infoView;
+    }
+
+    @Benchmark
+    public InfoView batched(){
+        generation++;
+        infoView.update(batch -> {
+            for(int i=0; i<rows; i++){
+                batch.setText(items[i], "Value " + i + " / " + generation);
+            }
+        });
+        pulse();
+        return infoView;
+    }
+}
@@ -0,0 +1,62 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.InfoItem;
+import com.erwandano.fxcomponents.InfoView;
+import javafx.scene.layout.AnchorPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizing an InfoView, either through resize() or by resizing its parent and laying it out
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InfoViewBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private AnchorPane parent;
+
+    private InfoView infoView;
+
+    private double width;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        infoView = new InfoView();
+        for(int i=0; i<rows; i++){
+            InfoItem item = new InfoItem("Label " + i);
+            item.setText("Some information about the label number " + i);
+            infoView.getChildren().add(item);
+        }
+        parent = new AnchorPane(infoView);
+        parent.resize(800, 600);
+        infoView.resize(parent.widthProperty());
+        parent.layout();
+    }
+
+    @Benchmark
+    public InfoView resize(){
+        infoView.resize(parent.widthProperty());
+        return infoView;
+    }
+
+    @Benchmark
+    public InfoView parentResize(){
+        width = (width + 1) % 400;
+        parent.resize(600 + width, 600);
+        parent.layout();
+        return infoView;
+    }
+}
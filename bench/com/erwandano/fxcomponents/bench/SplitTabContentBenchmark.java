@@ -0,0 +1,82 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTab;
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a SplitTabPane of heavy tool tabs and opening a few of them : contents built with their tabs, or
+ * created by a content factory on selection with at most 2 contents kept.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabContentBenchmark {
+
+    @Param({"30"})
+    public int tabs;
+
+    @Param({"2000"})
+    public int nodesPerContent;
+
+    @Param({"3"})
+    public int opened;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+    }
+
+    private Node heavyContent(){
+        Pane pane = new Pane();
+        for(int i=0; i<nodesPerContent; i++){
+            pane.getChildren().add(new Region());
+        }
+        return pane;
+    }
+
+    private void open(SplitTabPane splitTabPane){
+        for(int i=0; i<opened; i++){
+            splitTabPane.getTabPane().getSelectionModel().select(i);
+        }
+    }
+
+    @Benchmark
+    public SplitTabPane eager(){
+        SplitTabPane splitTabPane = new SplitTabPane();
+        for(int i=0; i<tabs; i++){
+            SplitTab splitTab = new SplitTab();
+            splitTab.setTabText("Tool " + i);
+            splitTab.setContent(heavyContent());
+            splitTabPane.addTab(splitTab);
+        }
+        open(splitTabPane);
+        return splitTabPane;
+    }
+
+    @Benchmark
+    public SplitTabPane lazy(){
+        SplitTabPane splitTabPane = new SplitTabPane();
+        splitTabPane.setMaxLoadedTabs(2);
+        for(int i=0; i<tabs; i++){
+            SplitTab splitTab = new SplitTab();
+            splitTab.setTabText("Tool " + i);
+            splitTab.setContentFactory(this::heavyContent);
+            splitTabPane.addTab(splitTab);
+        }
+        open(splitTabPane);
+        return splitTabPane;
+    }
+}
@@ -0,0 +1,109 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.geometry.Bounds;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One mouse event of a divider drag next to heavy content, followed by the CSS and layout passes of the next
+ * pulse : with the default drag moving the real divider, or with the ghost drag.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabDragBenchmark {
+
+    @Param({"false", "true"})
+    public boolean ghost;
+
+    @Param({"2000"})
+    public int contentNodes;
+
+    private SplitTabPane splitTabPane;
+
+    private Stage stage;
+
+    private Node divider;
+
+    private double startX;
+
+    private int step;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        FXToolkit.runAndWait(() -> {
+            VBox content = new VBox();
+            for(int i=0; i<contentNodes; i++){
+                Region region = new Region();
+                region.setPrefHeight(1 + i % 3);
+                content.getChildren().add(region);
+            }
+            splitTabPane = new SplitTabPane();
+            splitTabPane.setSide(Side.LEFT);
+            splitTabPane.setContent(content);
+            splitTabPane.setGhostDrag(ghost);
+            stage = new Stage();
+            stage.setScene(new Scene(splitTabPane, 1200, 800));
+            stage.show();
+            splitTabPane.getSplitPane().setDividerPositions(0.25);
+            pulse();
+            divider = splitTabPane.getSplitPane().lookup(".split-pane-divider");
+            Bounds bounds = divider.localToScene(divider.getLayoutBounds());
+            startX = bounds.getMinX() + bounds.getWidth() / 2;
+            fire(MouseEvent.MOUSE_PRESSED, startX);
+            return null;
+        });
+    }
+
+    @TearDown
+    public void tearDown(){
+        FXToolkit.runAndWait(() -> {
+            fire(MouseEvent.MOUSE_RELEASED, startX);
+            stage.close();
+            return null;
+        });
+    }
+
+    private void pulse(){
+        splitTabPane.applyCss();
+        splitTabPane.layout();
+    }
+
+    private void fire(EventType<MouseEvent> type, double sceneX){
+        Event.fireEvent(divider, new MouseEvent(type, sceneX, 400, sceneX, 400, MouseButton.PRIMARY, 1,
+                false, false, false, false, true, false, false, false, false, false,
+                new PickResult(divider, sceneX, 400)));
+    }
+
+    @Benchmark
+    public SplitTabPane dragEvent(){
+        return FXToolkit.runAndWait(() -> {
+            step = (step + 1) % 200;
+            fire(MouseEvent.MOUSE_DRAGGED, startX + step);
+            pulse();
+            return splitTabPane;
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTab;
+import com.erwandano.fxcomponents.control.SplitTabLayout;
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.geometry.Side;
+import javafx.scene.layout.Pane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Saving the layout of a SplitTabPane as a string, and restoring it on a new SplitTabPane before it is
+ * displayed : step by step as a workspace restore used to do, or with setLayoutState().
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SplitTabLayoutBenchmark {
+
+    private static final String LAYOUT = "RIGHT;300.0;0.75;2;false";
+
+    private SplitTabPane saved;
+
+    private SplitTabPane restored;
+
+    @Setup(Level.Trial)
+    public void setupSaved(){
+        FXToolkit.start();
+        saved = newPane();
+        saved.setLayoutState(SplitTabLayout.parse(LAYOUT));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupRestored(){
+        restored = newPane();
+    }
+
+    private static SplitTabPane newPane(){
+        SplitTabPane splitTabPane = new SplitTabPane();
+        splitTabPane.setContent(new Pane());
+        for(int i=0; i<5; i++){
+            splitTabPane.addTab(new SplitTab());
+        }
+        return splitTabPane;
+    }
+
+    @Benchmark
+    public String save(){
+        return saved.getLayoutState().toString();
+    }
+
+    @Benchmark
+    public SplitTabPane restoreStepByStep(){
+        restored.setSide(Side.RIGHT);
+        restored.setContent(restored.getContent());
+        restored.getTabPane().getSelectionModel().select(2);
+        restored.getSplitPane().setDividerPositions(0.75);
+        return restored;
+    }
+
+    @Benchmark
+    public SplitTabPane restoreLayoutState(){
+        restored.setLayoutState(SplitTabLayout.parse(LAYOUT));
+        return restored;
+    }
+}
@@ -0,0 +1,110 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTab;
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding, removing and replacing tabs of a SplitTabPane, one at a time or with the bulk operations
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabPaneBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int tabs;
+
+    private SplitTabPane splitTabPane;
+
+    private SplitTab[] splitTabs;
+
+    private SplitTab[] replacements;
+
+    @Setup(Level.Trial)
+    public void setupTabs(){
+        FXToolkit.start();
+        splitTabs = new SplitTab[tabs];
+        for(int i=0; i<tabs; i++){
+            splitTabs[i] = new SplitTab();
+            splitTabs[i].setTabText("Tab " + i);
+        }
+        replacements = new SplitTab[tabs];
+        for(int i=0; i<tabs; i++){
+            replacements[i] = new SplitTab();
+            replacements[i].setTabText("Other tab " + i);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setupPane(){
+        splitTabPane = new SplitTabPane();
+    }
+
+    /**
+     * A pane already displaying the tabs, to replace them
+     */
+    @State(Scope.Thread)
+    public static class FilledPane {
+
+        SplitTabPane splitTabPane;
+
+        @Setup(Level.Invocation)
+        public void setup(SplitTabPaneBenchmark benchmark){
+            splitTabPane = new SplitTabPane();
+            splitTabPane.addTabs(benchmark.splitTabs);
+        }
+    }
+
+    @Benchmark
+    public SplitTabPane addTabs(){
+        for(SplitTab splitTab : splitTabs){
+            splitTabPane.addTab(splitTab);
+        }
+        return splitTabPane;
+    }
+
+    @Benchmark
+    public SplitTabPane addThenRemoveTabs(){
+        for(SplitTab splitTab : splitTabs){
+            splitTabPane.addTab(splitTab);
+        }
+        for(SplitTab splitTab : splitTabs){
+            splitTabPane.removeTab(splitTab);
+        }
+        return splitTabPane;
+    }
+
+    @Benchmark
+    public SplitTabPane addTabsBulk(){
+        splitTabPane.addTabs(splitTabs);
+        return splitTabPane;
+    }
+
+    @Benchmark
+    public SplitTabPane replaceTabs(FilledPane pane){
+        for(SplitTab splitTab : splitTabs){
+            pane.splitTabPane.removeTab(splitTab);
+        }
+        for(SplitTab splitTab : replacements){
+            pane.splitTabPane.addTab(splitTab);
+        }
+        return pane.splitTabPane;
+    }
+
+    @Benchmark
+    public SplitTabPane setTabs(FilledPane pane){
+        pane.splitTabPane.setTabs(replacements);
+        return pane.splitTabPane;
+    }
+}
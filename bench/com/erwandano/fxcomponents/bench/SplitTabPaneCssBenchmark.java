@@ -0,0 +1,100 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The scene graph of a SplitTabPane displayed with a small content : its node count, a full CSS and layout pass,
+ * and collapsing or showing its tabPane followed by the passes of the next pulse.
+ * No tab is added so that the benchmark runs without fonts.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabPaneCssBenchmark {
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Nodes {
+        public long nodes;
+
+        public long passes;
+    }
+
+    private SplitTabPane splitTabPane;
+
+    private boolean toggle;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        FXToolkit.runAndWait(() -> {
+            splitTabPane = new SplitTabPane();
+            splitTabPane.setSide(Side.LEFT);
+            VBox content = new VBox();
+            for(int i=0; i<10; i++){
+                content.getChildren().add(new Region());
+            }
+            splitTabPane.setContent(content);
+            new Scene(splitTabPane, 1200, 800);
+            pulse();
+            return null;
+        });
+    }
+
+    private void pulse(){
+        splitTabPane.applyCss();
+        splitTabPane.layout();
+    }
+
+    private static int count(Node node){
+        int count = 1;
+        if(node instanceof Parent){
+            for(Node child : ((Parent) node).getChildrenUnmodifiable()){
+                count += count(child);
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public SplitTabPane fullPass(Nodes counter){
+        return FXToolkit.runAndWait(() -> {
+            toggle = !toggle;
+            /* A new inline style makes CSS match the whole subtree again */
+            splitTabPane.setStyle(toggle ? "-fx-padding: 0" : "-fx-padding: 0 0 0 0");
+            pulse();
+            counter.nodes += count(splitTabPane);
+            counter.passes++;
+            return splitTabPane;
+        });
+    }
+
+    @Benchmark
+    public SplitTabPane collapseShow(){
+        return FXToolkit.runAndWait(() -> {
+            toggle = !toggle;
+            if(toggle)
+                splitTabPane.showTabPane();
+            else
+                splitTabPane.collapseTabPane();
+            pulse();
+            return splitTabPane;
+        });
+    }
+}
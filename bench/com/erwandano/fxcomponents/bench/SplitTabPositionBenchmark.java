@@ -0,0 +1,64 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTabPosition;
+import javafx.geometry.Side;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TabPane;
+import javafx.scene.layout.AnchorPane;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions between widths, deltas and divider positions, and the listeners of SplitTabPosition
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SplitTabPositionBenchmark {
+
+    private SplitPane splitPane;
+
+    private SplitTabPosition position;
+
+    private double value;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        TabPane tabPane = new TabPane();
+        tabPane.setSide(Side.LEFT);
+        splitPane = new SplitPane(new AnchorPane(), new AnchorPane());
+        position = new SplitTabPosition(splitPane, tabPane);
+        splitPane.resize(1200, 800);
+    }
+
+    @Benchmark
+    public double conversions(){
+        value = (value + 0.01) % 1;
+        double width = position.widthFromDelta(value);
+        double delta = position.deltaFromWidth(width);
+        return position.positionFromDelta(delta) + position.deltaFromPosition(value);
+    }
+
+    @Benchmark
+    public double dividerMove(){
+        value = (value + 0.01) % 1;
+        splitPane.getDividers().get(0).setPosition(value);
+        return position.getSavedPosition();
+    }
+
+    @Benchmark
+    public double resize(){
+        value = (value + 1) % 400;
+        splitPane.resize(800 + value, 600 + value);
+        position.refresh();
+        return position.getSavedPosition();
+    }
+}
@@ -0,0 +1,80 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTabPosition;
+import javafx.geometry.Side;
+import javafx.scene.control.SplitPane;
+import javafx.scene.control.TabPane;
+import javafx.scene.layout.AnchorPane;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A resize storm : the SplitPane of a SplitTabPosition is resized many times on both axes before the next
+ * layout, as when the user drags the corner of a window.
+ * The dividerMoves counter divided by the storms counter is the number of times the divider moved per storm.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabResizeBenchmark {
+
+    @Param({"100"})
+    public int resizes;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Moves {
+        public long dividerMoves;
+
+        public long storms;
+    }
+
+    private SplitPane splitPane;
+
+    private SplitTabPosition position;
+
+    private long moves;
+
+    private int generation;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        FXToolkit.runAndWait(() -> {
+            TabPane tabPane = new TabPane();
+            tabPane.setSide(Side.LEFT);
+            splitPane = new SplitPane(tabPane, new AnchorPane());
+            position = new SplitTabPosition(splitPane, tabPane);
+            splitPane.resize(1200, 800);
+            splitPane.setDividerPositions(0.25);
+            splitPane.getDividers().get(0).positionProperty().addListener(observable -> moves++);
+            return null;
+        });
+    }
+
+    @Benchmark
+    public double storm(Moves counter){
+        return FXToolkit.runAndWait(() -> {
+            long before = moves;
+            generation++;
+            for(int i=0; i<resizes; i++){
+                double offset = (generation + i) % 400;
+                splitPane.resize(800 + offset, 600 + offset);
+            }
+            /* The layout of the SplitTabPane */
+            position.refresh();
+            counter.dividerMoves += moves - before;
+            counter.storms++;
+            return position.getSavedPosition();
+        });
+    }
+}
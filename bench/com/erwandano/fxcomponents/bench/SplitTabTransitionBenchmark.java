@@ -0,0 +1,88 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.control.SplitTabPane;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
+import javafx.util.Duration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of one frame of a collapse transition next to heavy content : moving the divider and laying out the
+ * contents, as a hand-made animation does, or moving the snapshot of an animated SplitTabPane.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplitTabTransitionBenchmark {
+
+    @Param({"2000"})
+    public int contentNodes;
+
+    private SplitTabPane splitTabPane;
+
+    private Node snapshot;
+
+    private int frame;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        FXToolkit.runAndWait(() -> {
+            VBox content = new VBox();
+            for(int i=0; i<contentNodes; i++){
+                Region region = new Region();
+                region.setPrefHeight(1 + i % 3);
+                content.getChildren().add(region);
+            }
+            splitTabPane = new SplitTabPane();
+            splitTabPane.setSide(Side.LEFT);
+            splitTabPane.setContent(content);
+            new Scene(splitTabPane, 1200, 800);
+            pulse();
+            splitTabPane.setAnimated(true);
+            /* Keep the snapshot displayed for the whole benchmark */
+            splitTabPane.setAnimationDuration(Duration.hours(1));
+            splitTabPane.showTabPane();
+            snapshot = splitTabPane.getChildren().get(splitTabPane.getChildren().size() - 1);
+            pulse();
+            return null;
+        });
+    }
+
+    private void pulse(){
+        splitTabPane.applyCss();
+        splitTabPane.layout();
+    }
+
+    @Benchmark
+    public SplitTabPane liveFrame(){
+        return FXToolkit.runAndWait(() -> {
+            frame = (frame + 1) % 100;
+            splitTabPane.getSplitPane().setDividerPositions(0.1 + frame / 400d);
+            pulse();
+            return splitTabPane;
+        });
+    }
+
+    @Benchmark
+    public SplitTabPane snapshotFrame(){
+        return FXToolkit.runAndWait(() -> {
+            frame = (frame + 1) % 100;
+            snapshot.setTranslateX(-frame);
+            pulse();
+            return splitTabPane;
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.erwandano.fxcomponents.bench;
+
+import com.erwandano.fxcomponents.TextProgressBar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updating the percentage of a TextProgressBar
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TextProgressBarBenchmark {
+
+    private TextProgressBar progressBar;
+
+    private int percentage;
+
+    @Setup
+    public void setup(){
+        FXToolkit.start();
+        progressBar = new TextProgressBar();
+    }
+
+    @Benchmark
+    public TextProgressBar setPercentageInt(){
+        percentage = (percentage + 1) % 101;
+        progressBar.setPercentage(percentage);
+        return progressBar;
+    }
+
+    @Benchmark
+    public TextProgressBar setPercentageDouble(){
+        percentage = (percentage + 1) % 101;
+        progressBar.setPercentage(percentage / 100d);
+        return progressBar;
+    }
+}
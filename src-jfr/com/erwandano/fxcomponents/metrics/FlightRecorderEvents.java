@@ -0,0 +1,45 @@
+package com.erwandano.fxcomponents.metrics;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Creates the Flight Recorder events, loaded by ComponentEvents when Flight Recorder is available.
+ * The events are registered when it is loaded, so that a recording can enable them before they are first emitted.
+ */
+final class FlightRecorderEvents implements ComponentEvents.Factory {
+
+    static {
+        FlightRecorder.register(TabSelectionEvent.class);
+        FlightRecorder.register(TabPaneVisibilityEvent.class);
+        FlightRecorder.register(IconChangeEvent.class);
+        FlightRecorder.register(InfoViewLayoutEvent.class);
+    }
+
+    @Override
+    public ComponentEvent tabSelection(String tab) {
+        return enabled(new TabSelectionEvent(tab));
+    }
+
+    @Override
+    public ComponentEvent tabPaneVisibility(boolean collapsed, boolean animated) {
+        return enabled(new TabPaneVisibilityEvent(collapsed, animated));
+    }
+
+    @Override
+    public ComponentEvent.IconChange iconChange(String icon) {
+        return enabled(new IconChangeEvent(icon));
+    }
+
+    @Override
+    public ComponentEvent infoViewLayout(int rows, double width, boolean resized) {
+        return enabled(new InfoViewLayoutEvent(rows, width, resized));
+    }
+
+    /**
+     * @return The event if a recording enables it, null otherwise
+     */
+    private static <E extends Event> E enabled(E event){
+        return event.isEnabled() ? event : null;
+    }
+}
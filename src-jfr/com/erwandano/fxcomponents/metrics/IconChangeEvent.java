@@ -0,0 +1,37 @@
+package com.erwandano.fxcomponents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call to FAButton.setIcon(), including the glyph lookup and the creation of the graphic node
+ */
+@Name("com.erwandano.fxcomponents.IconChange")
+@Label("Icon Change")
+@Category({"FXComponents", "FAButton"})
+@Description("Change of the icon of a FAButton")
+@StackTrace(false)
+@Enabled(false)
+public final class IconChangeEvent extends Event implements ComponentEvent.IconChange {
+
+    @Label("Icon")
+    String icon;
+
+    @Label("Found")
+    @Description("True if a glyph matches the icon name")
+    boolean found;
+
+    public IconChangeEvent(String icon){
+        this.icon = icon;
+    }
+
+    @Override
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+}
@@ -0,0 +1,37 @@
+package com.erwandano.fxcomponents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The layout of an InfoView, setting the wrapping widths of its rows and laying them out
+ */
+@Name("com.erwandano.fxcomponents.InfoViewLayout")
+@Label("InfoView Layout")
+@Category({"FXComponents", "InfoView"})
+@Description("Layout of an InfoView")
+@StackTrace(false)
+@Enabled(false)
+public final class InfoViewLayoutEvent extends Event implements ComponentEvent {
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Width")
+    double width;
+
+    @Label("Resized")
+    @Description("True if the width changed since the previous layout")
+    boolean resized;
+
+    public InfoViewLayoutEvent(int rows, double width, boolean resized){
+        this.rows = rows;
+        this.width = width;
+        this.resized = resized;
+    }
+}
@@ -0,0 +1,32 @@
+package com.erwandano.fxcomponents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The collapse or the expansion of the TabPane of a SplitTabPane, lasting until the end of its transition
+ */
+@Name("com.erwandano.fxcomponents.TabPaneVisibility")
+@Label("Tab Pane Collapse/Expand")
+@Category({"FXComponents", "SplitTabPane"})
+@Description("Collapse or expansion of the TabPane of a SplitTabPane, until its transition ends")
+@StackTrace(false)
+@Enabled(false)
+public final class TabPaneVisibilityEvent extends Event implements ComponentEvent {
+
+    @Label("Collapsed")
+    boolean collapsed;
+
+    @Label("Animated")
+    boolean animated;
+
+    public TabPaneVisibilityEvent(boolean collapsed, boolean animated){
+        this.collapsed = collapsed;
+        this.animated = animated;
+    }
+}
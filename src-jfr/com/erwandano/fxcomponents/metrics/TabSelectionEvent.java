@@ -0,0 +1,28 @@
+package com.erwandano.fxcomponents.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The selection of a tab of a SplitTabPane, lasting until the SplitTabPane is laid out with the new content
+ */
+@Name("com.erwandano.fxcomponents.TabSelection")
+@Label("Tab Selection")
+@Category({"FXComponents", "SplitTabPane"})
+@Description("Selection of a tab, until the SplitTabPane is laid out")
+@StackTrace(false)
+@Enabled(false)
+public final class TabSelectionEvent extends Event implements ComponentEvent {
+
+    @Label("Tab")
+    String tab;
+
+    public TabSelectionEvent(String tab){
+        this.tab = tab;
+    }
+}
@@ -1,7 +1,6 @@
 package com.erwandano.fxcomponents;
 
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.SimpleBooleanProperty;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.CustomMenuItem;
 
@@ -10,12 +9,6 @@ import javafx.scene.control.CustomMenuItem;
  */
 public class CheckBoxMenuItem extends CustomMenuItem{
 
-    /**
-     * Indicates if the checkbox is selected
-     */
-    private BooleanProperty checked;
-
-
     public BooleanProperty selectedProperty(){
         return checkBox==null ? null : checkBox.selectedProperty();
     }
@@ -28,16 +21,19 @@ public class CheckBoxMenuItem extends CustomMenuItem{
         return checkBox.isSelected();
     }
 
+    /**
+     * Same as selectedProperty()
+     */
     public BooleanProperty checkedProperty(){
-        return checked;
+        return checkBox.selectedProperty();
     }
 
     public Boolean getChecked(){
-        return this.checked.getValue();
+        return checkBox.isSelected();
     }
 
     public void setChecked(Boolean selected){
-        this.checked.setValue(selected);
+        checkBox.setSelected(selected);
     }
 
     /**
@@ -49,7 +45,6 @@ public class CheckBoxMenuItem extends CustomMenuItem{
     public CheckBoxMenuItem(){
         super();
         this.setHideOnClick(false);
-        this.checked = new SimpleBooleanProperty();
         this.checkBox = new CheckBox();
         checkBox.textProperty().bind(this.textProperty());
         this.setContent(checkBox);
@@ -0,0 +1,116 @@
+package com.erwandano.fxcomponents;
+
+import org.controlsfx.glyphfont.FontAwesome;
+import org.controlsfx.glyphfont.GlyphFont;
+import org.controlsfx.glyphfont.GlyphFontRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads the FontAwesome font bundled with the library and registers it in the GlyphFontRegistry.
+ *
+ * The font is loaded only once, either in the background with prewarm() during the application startup,
+ * or on the calling thread the first time a glyph is needed. get() waits for a loading already in progress.
+ */
+public final class FAFont {
+
+    /**
+     * The font bundled with the library
+     */
+    private static final String RESOURCE = "com/erwandano/fxcomponents/resources/fontawesome.ttf";
+
+    private static final AtomicReference<FutureTask<GlyphFont>> LOADING = new AtomicReference<>();
+
+    private FAFont(){
+    }
+
+    /**
+     * Start loading the font on a background daemon thread
+     */
+    public static void prewarm(){
+        Thread thread = new Thread(task(), "FontAwesome loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Start loading the font with the given executor
+     */
+    public static void prewarm(Executor executor){
+        executor.execute(task());
+    }
+
+    /**
+     * @return True if the font is ready to be used
+     */
+    public static boolean isLoaded(){
+        FutureTask<GlyphFont> task = LOADING.get();
+        return task != null && task.isDone();
+    }
+
+    /**
+     * Get the FontAwesome font, loading it on the calling thread if prewarm() was not called,
+     * or waiting for the loading started by prewarm() to finish.
+     * @return  The FontAwesome GlyphFont
+     */
+    public static GlyphFont get(){
+        FutureTask<GlyphFont> task = task();
+        /* Does nothing if the loading was already started */
+        task.run();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return task.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Unable to load the FontAwesome font", e.getCause());
+        } finally {
+            if(interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private static FutureTask<GlyphFont> task(){
+        FutureTask<GlyphFont> task = LOADING.get();
+        if(task == null){
+            LOADING.compareAndSet(null, new FutureTask<>(FAFont::load));
+            task = LOADING.get();
+        }
+        return task;
+    }
+
+    private static GlyphFont load() throws IOException {
+        byte[] bytes = readResource();
+        GlyphFont font = new FontAwesome(new ByteArrayInputStream(bytes));
+        GlyphFontRegistry.register(font);
+        return font;
+    }
+
+    private static byte[] readResource() throws IOException {
+        InputStream in = FAFont.class.getClassLoader().getResourceAsStream(RESOURCE);
+        if(in == null)
+            throw new IOException("Missing resource " + RESOURCE);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(in.available() > 0 ? in.available() : 8192);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -1,8 +1,672 @@
 package com.erwandano.fxcomponents;
 
+import com.erwandano.fxcomponents.buttons.FAButton;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.transform.Transform;
+import org.controlsfx.glyphfont.FontAwesome;
+import org.controlsfx.glyphfont.Glyph;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Easily create Font Awesome Icons
+ *
+ * Every (glyph, size, color, render scale) combination is rasterized only once into a shared sprite atlas.
+ * The icons are handed out as ImageViews displaying a viewport of an atlas page, so a screen showing the same
+ * icon a hundred times only holds one rasterized copy of it.
+ *
+ * The memory used by the cache is the size of its atlas pages, each page holding up to 64 icons of a similar size
+ * on at most 256x256 pixels. When it exceeds the memory budget, the least recently used pages none of whose icons
+ * is displayed are dropped with their icons, until the cache fits in the budget or no page can be dropped.
+ * A page showing an icon is never dropped, so the budget can be exceeded while the icons are shown.
+ *
+ * FAButton and IconButton display their icon through glyph(), a Glyph node showing an icon of this cache
+ * that follows the font size and the text fill of the node. The glyph is only rasterized once it is part of
+ * a scene on the JavaFX Application Thread, so it can be created from any thread; a glyph added to a scene
+ * from another thread displays the FontAwesome font instead.
+ *
+ * Apart from glyph() and getShared(), the cache must only be used from the JavaFX Application Thread.
  */
 public class FAIcon {
 
+    /**
+     * Default memory budget of the cache, in bytes
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 4L * 1024 * 1024;
+
+    /**
+     * Maximum width and height of an atlas page, in pixels
+     */
+    private static final int PAGE_SIZE = 256;
+
+    /**
+     * Number of slots on each row and column of an atlas page, unless that exceeds PAGE_SIZE
+     */
+    private static final int SLOTS_PER_ROW = 8;
+
+    /**
+     * Slots are allocated in multiples of this size, in pixels
+     */
+    private static final int CELL_GRANULARITY = 8;
+
+    private static final int BYTES_PER_PIXEL = 4;
+
+    /**
+     * Holder of the shared cache, created on first use by the class loader
+     */
+    private static final class Shared {
+        static final FAIcon INSTANCE = new FAIcon();
+    }
+
+    /**
+     * @return The cache shared by the whole application
+     */
+    public static FAIcon getShared(){
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Create an icon from the shared cache
+     * @param glyph The FontAwesome glyph
+     * @param size  The size of the icon
+     * @param color The color of the icon
+     * @return      An ImageView displaying the icon
+     */
+    public static ImageView icon(FontAwesome.Glyph glyph, double size, Color color){
+        return getShared().create(glyph, size, color);
+    }
+
+    public FAIcon(){
+        this(DEFAULT_MEMORY_BUDGET);
+    }
+
+    public FAIcon(long memoryBudget){
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Key of the view reference stored in the properties of the ImageViews handed out
+     */
+    private final Object viewKey = new Object();
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ATTRIBUTES                                                                                                      *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The cached icons
+     */
+    private final Map<Key, Slot> entries = new HashMap<>();
+
+    /**
+     * Incremented each time an icon is displayed, to know which page was used last
+     */
+    private long clock;
+
+    /**
+     * The atlas pages, by cell size
+     */
+    private final Map<Integer, List<Page>> pages = new HashMap<>();
+
+    /**
+     * The ImageViews handed out, used to know when a slot is not displayed anymore
+     */
+    private final Set<ViewReference> views = new HashSet<>();
+
+    private final ReferenceQueue<ImageView> collectedViews = new ReferenceQueue<>();
+
+    /**
+     * The maximum number of bytes used by the cached icons
+     */
+    private long memoryBudget;
+
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    public void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        evict();
+    }
+
+    /**
+     * The number of bytes used by the atlas pages
+     */
+    private long memoryUsage;
+
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /**
+     * @return The number of icons currently cached
+     */
+    public int size(){
+        return entries.size();
+    }
+
+    /**
+     * The scale at which the icons of glyph() are rasterized, e.g. 2 on a HiDPI screen
+     */
+    private double renderScale = 1;
+
+    public double getRenderScale() {
+        return renderScale;
+    }
+
+    public void setRenderScale(double renderScale) {
+        this.renderScale = renderScale;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ICONS                                                                                                           *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Create an icon rendered at a scale of 1
+     * @see #create(FontAwesome.Glyph, double, Color, double)
+     */
+    public ImageView create(FontAwesome.Glyph glyph, double size, Color color){
+        return create(glyph, size, color, 1);
+    }
+
+    /**
+     * Create an icon from its name
+     * @param icon  The name of the FontAwesome glyph, case insensitive
+     * @return      The icon or null if there is no glyph with that name
+     * @see #create(FontAwesome.Glyph, double, Color, double)
+     */
+    public ImageView create(String icon, double size, Color color){
+        FontAwesome.Glyph glyph = FAButton.findGlyph(icon);
+        return glyph == null ? null : create(glyph, size, color, 1);
+    }
+
+    /**
+     * Create an icon
+     * @param glyph         The FontAwesome glyph
+     * @param size          The size of the icon, in the same unit as a font size
+     * @param color         The color of the icon
+     * @param renderScale   The scale at which the icon is rasterized, e.g. 2 on a HiDPI screen
+     * @return              An ImageView displaying the icon at the given size
+     */
+    public ImageView create(FontAwesome.Glyph glyph, double size, Color color, double renderScale){
+        return create(glyph.getChar(), size, color, renderScale);
+    }
+
+    /**
+     * Create an icon from the character of a glyph in the FontAwesome font
+     * @see #create(FontAwesome.Glyph, double, Color, double)
+     */
+    public ImageView create(char character, double size, Color color, double renderScale){
+        ImageView view = new ImageView();
+        update(view, character, size, color, renderScale);
+        return view;
+    }
+
+    /**
+     * Display another icon in an ImageView returned by this cache, e.g. when its color or size changes.
+     * The icon previously displayed is released.
+     * @param view  An ImageView returned by this cache
+     * @see #create(FontAwesome.Glyph, double, Color, double)
+     */
+    public void update(ImageView view, char character, double size, Color color, double renderScale){
+        ViewReference reference = (ViewReference) view.getProperties().get(viewKey);
+        if(reference != null && reference.key.is(character, size, color, renderScale)){
+            reference.slot.page.lastUsed = ++clock;
+            return;
+        }
+        /* Release the previous icon once the new one is referenced so that a page shared by both is not dropped */
+        ViewReference previous = display(view, new Key(character, size, color, renderScale));
+        if(previous != null)
+            release(previous);
+    }
+
+    /**
+     * Display an icon in an ImageView, rasterizing it if needed
+     * @return  The reference to the icon previously displayed by the view, still counted as displayed
+     */
+    private ViewReference display(ImageView view, Key key){
+        expungeCollectedViews();
+        Slot slot = entries.get(key);
+        boolean added = slot == null;
+        if(added){
+            slot = rasterize(key);
+            slot.key = key;
+            entries.put(key, slot);
+        }
+        slot.views++;
+        slot.page.views++;
+        ViewReference displayed = new ViewReference(view, key, slot, collectedViews);
+        views.add(displayed);
+        ViewReference previous = show(view, displayed);
+        if(added)
+            evict();
+        return previous;
+    }
+
+    /**
+     * Switch an ImageView to an icon it already references
+     * @return  The reference to the icon previously displayed by the view
+     */
+    private ViewReference show(ImageView view, ViewReference reference){
+        Slot slot = reference.slot;
+        double renderScale = reference.key.renderScale;
+        view.setImage(slot.page.image);
+        view.setViewport(slot.viewport);
+        view.setFitWidth(slot.width / renderScale);
+        view.setFitHeight(slot.height / renderScale);
+        view.setSmooth(renderScale != 1);
+        slot.page.lastUsed = ++clock;
+        return (ViewReference) view.getProperties().put(viewKey, reference);
+    }
+
+    /**
+     * Indicate that an icon created by this cache is not displayed anymore.
+     * Its atlas slot can then be reused right away instead of waiting for the ImageView to be garbage collected.
+     * @param view  An ImageView returned by this cache
+     */
+    public void release(ImageView view){
+        ViewReference reference = (ViewReference) view.getProperties().remove(viewKey);
+        if(reference != null){
+            release(reference);
+            view.setImage(null);
+        }
+    }
+
+    /**
+     * Release the icon of a node returned by glyph().
+     * Other nodes are ignored.
+     * @param node  The node that is not displayed anymore
+     */
+    public void release(Node node){
+        if(node instanceof ImageView)
+            release((ImageView) node);
+        else if(node instanceof AtlasGlyph && ((AtlasGlyph) node).cache == this)
+            ((AtlasGlyph) node).dispose();
+    }
+
+    /**
+     * Create a Glyph node displaying an icon of this cache.
+     * The icon follows the font size and the text fill of the node, so it can be resized with Glyph.size(), and
+     * recolored with Glyph.color() or with the -fx-text-fill property of the .glyph-font style class.
+     * A text fill that is not a plain color, e.g. a gradient, is drawn with the font instead.
+     * @param character The character of the glyph in the FontAwesome font
+     * @param size      The size of the icon
+     * @return          The Glyph node
+     */
+    public Glyph glyph(char character, double size){
+        return new AtlasGlyph(this, character, size);
+    }
+
+    /**
+     * Create a Glyph node displaying an icon of this cache in the given color
+     * @see #glyph(char, double)
+     */
+    public Glyph glyph(char character, double size, Color color){
+        Glyph node = glyph(character, size);
+        node.color(color);
+        return node;
+    }
+
+    /**
+     * Remove every icon from the cache.
+     * The icons already displayed are left untouched.
+     */
+    public void clear(){
+        for(Slot slot : entries.values()){
+            slot.evicted = true;
+            if(slot.views==0)
+                free(slot);
+        }
+        entries.clear();
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ATLAS                                                                                                           *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Rasterize an icon and copy it inside a free slot of the atlas
+     */
+    private Slot rasterize(Key key){
+        Text text = new Text(String.valueOf(key.character));
+        text.setFont(Font.font(FAFont.get().getName(), key.size));
+        text.setFill(key.color);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(key.renderScale, key.renderScale));
+        WritableImage snapshot = text.snapshot(parameters, null);
+        int width = (int) snapshot.getWidth();
+        int height = (int) snapshot.getHeight();
+        int cell = cellSize(Math.max(width, height));
+        Slot slot = allocate(cell);
+        slot.width = width;
+        slot.height = height;
+        slot.viewport = new Rectangle2D(slot.x, slot.y, width, height);
+        slot.page.image.getPixelWriter().setPixels(slot.x, slot.y, width, height,
+                snapshot.getPixelReader(), 0, 0);
+        return slot;
+    }
+
+    private static int cellSize(int pixels){
+        return Math.max(CELL_GRANULARITY, (pixels + CELL_GRANULARITY - 1) / CELL_GRANULARITY * CELL_GRANULARITY);
+    }
+
+    /**
+     * Find a free slot of the given cell size, creating a new page if all pages are full
+     */
+    private Slot allocate(int cell){
+        List<Page> cellPages = pages.computeIfAbsent(cell, c -> new ArrayList<>());
+        for(Page page : cellPages){
+            if(!page.free.isEmpty())
+                return page.free.pop();
+        }
+        Page page = new Page(cell);
+        cellPages.add(page);
+        memoryUsage += page.bytes();
+        return page.free.pop();
+    }
+
+    /**
+     * Give a slot back to its page, and drop the page once none of its slots is used
+     */
+    private void free(Slot slot){
+        Page page = slot.page;
+        slot.evicted = false;
+        slot.key = null;
+        page.free.push(slot);
+        if(page.free.size()==page.capacity)
+            drop(page);
+    }
+
+    private void drop(Page page){
+        List<Page> cellPages = pages.get(page.cell);
+        cellPages.remove(page);
+        if(cellPages.isEmpty())
+            pages.remove(page.cell);
+        memoryUsage -= page.bytes();
+    }
+
+    /**
+     * Drop the least recently used pages that display no icon, with their icons, until the atlas pages fit in the
+     * memory budget. Stops when every remaining page displays an icon.
+     */
+    private void evict(){
+        while(memoryUsage > memoryBudget){
+            Page oldest = null;
+            for(List<Page> cellPages : pages.values()){
+                for(Page page : cellPages){
+                    if(page.views==0 && (oldest == null || page.lastUsed < oldest.lastUsed))
+                        oldest = page;
+                }
+            }
+            if(oldest == null)
+                return;
+            for(Slot slot : oldest.slots){
+                if(slot.key != null)
+                    entries.remove(slot.key);
+            }
+            drop(oldest);
+        }
+    }
+
+    private void release(ViewReference reference){
+        if(views.remove(reference)){
+            reference.clear();
+            releaseView(reference.slot);
+        }
+    }
+
+    private void releaseView(Slot slot){
+        slot.views--;
+        slot.page.views--;
+        if(slot.views==0 && slot.evicted)
+            free(slot);
+        else if(slot.page.views==0)
+            evict();
+    }
+
+    private void expungeCollectedViews(){
+        ViewReference reference;
+        while((reference = (ViewReference) collectedViews.poll()) != null){
+            if(views.remove(reference))
+                releaseView(reference.slot);
+        }
+    }
+
+    /**
+     * A Glyph node displaying an icon of the cache instead of its text
+     */
+    private static final class AtlasGlyph extends Glyph {
+        final FAIcon cache;
+        final char character;
+        final ImageView view = new ImageView();
+        final InvalidationListener refresh = o -> refresh();
+        boolean refreshing;
+
+        /**
+         * The icon displayed before the current one in another color, kept so that toggling between two colors,
+         * e.g. on hover, only switches the image and viewport of the view
+         */
+        ViewReference spare;
+
+        AtlasGlyph(FAIcon cache, char character, double size){
+            this.cache = cache;
+            this.character = character;
+            size(size);
+            fontProperty().addListener(refresh);
+            textFillProperty().addListener(refresh);
+            sceneProperty().addListener(refresh);
+        }
+
+        /**
+         * Display the icon matching the current font size and text fill.
+         * Nothing is rasterized until the glyph is part of a scene.
+         */
+        void refresh(){
+            if(refreshing)
+                return;
+            refreshing = true;
+            try {
+                show(getTextFill());
+            } finally {
+                refreshing = false;
+            }
+        }
+
+        private void show(Paint fill){
+            if(getScene() == null)
+                return;
+            if(fill instanceof Color && Platform.isFxApplicationThread()){
+                showIcon((Color) fill);
+                setText(null);
+                setGraphic(view);
+            } else {
+                releaseSpare();
+                cache.release(view);
+                setGraphic(null);
+                setFont(Font.font(FAFont.get().getName(), getFont().getSize()));
+                setText(String.valueOf(character));
+            }
+        }
+
+        private void showIcon(Color color){
+            double size = getFont().getSize();
+            double renderScale = cache.getRenderScale();
+            ViewReference current = (ViewReference) view.getProperties().get(cache.viewKey);
+            if(current != null && current.key.is(character, size, color, renderScale)){
+                current.slot.page.lastUsed = ++cache.clock;
+                return;
+            }
+            ViewReference previous;
+            if(spare != null && spare.key.is(character, size, color, renderScale)){
+                previous = cache.show(view, spare);
+                spare = null;
+            } else {
+                previous = cache.display(view, new Key(character, size, color, renderScale));
+            }
+            releaseSpare();
+            if(previous != null && previous.key.size == size && previous.key.renderScale == renderScale)
+                spare = previous;
+            else if(previous != null)
+                cache.release(previous);
+        }
+
+        private void releaseSpare(){
+            if(spare != null){
+                cache.release(spare);
+                spare = null;
+            }
+        }
+
+        void dispose(){
+            fontProperty().removeListener(refresh);
+            textFillProperty().removeListener(refresh);
+            sceneProperty().removeListener(refresh);
+            releaseSpare();
+            cache.release(view);
+        }
+    }
+
+    /**
+     * A page of the atlas, divided in square slots of the same size
+     */
+    private static final class Page {
+        final int cell;
+        final int capacity;
+        final WritableImage image;
+        final Slot[] slots;
+        final ArrayDeque<Slot> free = new ArrayDeque<>();
+
+        /**
+         * The number of ImageViews displaying an icon of the page
+         */
+        int views;
+
+        long lastUsed;
+
+        Page(int cell){
+            this.cell = cell;
+            int perRow = Math.max(1, Math.min(SLOTS_PER_ROW, PAGE_SIZE / cell));
+            int size = perRow * cell;
+            this.capacity = perRow * perRow;
+            this.image = new WritableImage(size, size);
+            this.slots = new Slot[capacity];
+            for(int i=capacity-1; i>=0; i--){
+                slots[i] = new Slot(this, (i % perRow) * cell, (i / perRow) * cell);
+                free.push(slots[i]);
+            }
+        }
+
+        /**
+         * @return The size of the page image, whatever the number of slots used
+         */
+        long bytes(){
+            return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+        }
+    }
+
+    /**
+     * A slot of an atlas page holding one icon
+     */
+    private static final class Slot {
+        final Page page;
+        final int x;
+        final int y;
+        int width;
+        int height;
+        Rectangle2D viewport;
+        int views;
+        boolean evicted;
+
+        /**
+         * The icon held by the slot, null when the slot is free
+         */
+        Key key;
+
+        Slot(Page page, int x, int y){
+            this.page = page;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /**
+     * Weak reference to an ImageView handed out by the cache
+     */
+    private static final class ViewReference extends WeakReference<ImageView> {
+        final Key key;
+        final Slot slot;
+
+        ViewReference(ImageView view, Key key, Slot slot, ReferenceQueue<ImageView> queue){
+            super(view, queue);
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Identifies a rasterized icon
+     */
+    private static final class Key {
+        final char character;
+        final double size;
+        final Color color;
+        final double renderScale;
+
+        Key(char character, double size, Color color, double renderScale){
+            this.character = character;
+            this.size = size;
+            this.color = color;
+            this.renderScale = renderScale;
+        }
+
+        boolean is(char character, double size, Color color, double renderScale){
+            return this.character == character
+                    && Double.compare(this.size, size) == 0
+                    && Double.compare(this.renderScale, renderScale) == 0
+                    && this.color.equals(color);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return is(key.character, key.size, key.color, key.renderScale);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = character;
+            result = 31 * result + Double.hashCode(size);
+            result = 31 * result + color.hashCode();
+            result = 31 * result + Double.hashCode(renderScale);
+            return result;
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package com.erwandano.fxcomponents;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A token index of the labels and infos of an InfoView, used to search its items.
+ *
+ * The index is only read and written on a background thread shared by all the InfoViews. The InfoView sends it
+ * the texts of its items, read on the JavaFX Application Thread, and the index never touches the nodes.
+ * Each word of a query matches the tokens it is a prefix of, an item matches when all the words match.
+ */
+final class InfoIndex {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "InfoView index");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The items by token, sorted to find all the tokens starting with a prefix
+     */
+    private final TreeMap<String, Set<InfoItem>> postings = new TreeMap<>();
+
+    /**
+     * The tokens of each item
+     */
+    private final Map<InfoItem, List<String>> tokens = new HashMap<>();
+
+    /**
+     * Index an item, or index it again after its texts changed
+     */
+    void put(InfoItem item, String label, String text){
+        EXECUTOR.execute(() -> {
+            unindex(item);
+            List<String> itemTokens = new ArrayList<>();
+            tokenize(label, itemTokens);
+            tokenize(text, itemTokens);
+            tokens.put(item, itemTokens);
+            for(String token : itemTokens){
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(item);
+            }
+        });
+    }
+
+    /**
+     * Forget a removed item
+     */
+    void remove(InfoItem item){
+        EXECUTOR.execute(() -> unindex(item));
+    }
+
+    /**
+     * Find the items matching a query
+     * @param query The words to look for, case insensitive
+     * @return      The matching items, available once the changes sent before the query are indexed
+     */
+    CompletableFuture<Set<InfoItem>> search(String query){
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> words = new ArrayList<>();
+            tokenize(query, words);
+            if(words.isEmpty())
+                return Collections.<InfoItem>emptySet();
+            /* Collect the items of the most selective word, then check the other words on these items only */
+            String rarest = null;
+            int rarestCount = Integer.MAX_VALUE;
+            for(String word : words){
+                int count = 0;
+                for(Set<InfoItem> items : prefixed(word).values()){
+                    count += items.size();
+                    if(count >= rarestCount)
+                        break;
+                }
+                if(count < rarestCount){
+                    rarest = word;
+                    rarestCount = count;
+                }
+            }
+            Set<InfoItem> result = new HashSet<>();
+            for(Set<InfoItem> items : prefixed(rarest).values()){
+                result.addAll(items);
+            }
+            for(String word : words){
+                if(word != rarest)
+                    result.removeIf(item -> !hasPrefix(tokens.get(item), word));
+            }
+            return result;
+        }, EXECUTOR);
+    }
+
+    /**
+     * Check a single item against a query, on the calling thread
+     * @return True if every word of the query is a prefix of a token of the label or the text
+     */
+    static boolean matches(String query, String label, String text){
+        List<String> words = new ArrayList<>();
+        tokenize(query, words);
+        if(words.isEmpty())
+            return false;
+        List<String> itemTokens = new ArrayList<>();
+        tokenize(label, itemTokens);
+        tokenize(text, itemTokens);
+        for(String word : words){
+            if(!hasPrefix(itemTokens, word))
+                return false;
+        }
+        return true;
+    }
+
+    private Map<String, Set<InfoItem>> prefixed(String prefix){
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private static boolean hasPrefix(List<String> itemTokens, String prefix){
+        for(String token : itemTokens){
+            if(token.startsWith(prefix))
+                return true;
+        }
+        return false;
+    }
+
+    private void unindex(InfoItem item){
+        List<String> itemTokens = tokens.remove(item);
+        if(itemTokens == null)
+            return;
+        for(String token : itemTokens){
+            Set<InfoItem> items = postings.get(token);
+            if(items != null && items.remove(item) && items.isEmpty())
+                postings.remove(token);
+        }
+    }
+
+    /**
+     * Split a text in lower case tokens made of letters and digits
+     */
+    static void tokenize(String text, List<String> tokens){
+        if(text == null)
+            return;
+        int start = -1;
+        for(int i=0; i<=text.length(); i++){
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if(wordChar && start < 0){
+                start = i;
+            } else if(!wordChar && start >= 0){
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+}
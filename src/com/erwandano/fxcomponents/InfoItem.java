@@ -1,20 +1,28 @@
 package com.erwandano.fxcomponents;
 
-import javafx.beans.property.SimpleStringProperty;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
 import javafx.beans.property.StringProperty;
+import javafx.css.PseudoClass;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.text.Text;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * An element of InfoView, simply displays a label and an info related
  * The text will wrap automatically thanks to the resize() function of InfoView
  */
 public class InfoItem extends HBox{
 
+    private static final PseudoClass FIRST_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("first-item");
+    private static final PseudoClass LAST_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("last-item");
+    private static final PseudoClass EVEN_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("even");
+    private static final PseudoClass ODD_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("odd");
+    private static final PseudoClass MATCH_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("match");
+
     public InfoItem(){
-        text = new SimpleStringProperty();
-        label = new SimpleStringProperty();
         labelNode = new Text();
         infoNode = new Text();
         labelNode.getStyleClass().add("info-text");
@@ -61,39 +69,130 @@ public class InfoItem extends HBox{
     /**
      * Text to display inside the labelNode node
      */
-    private StringProperty label;
-
     public String getLabel() {
-        return label.get();
+        return labelNode.getText();
     }
 
     public void setLabel(String label) {
-        this.label.set(label);
-        if(labelNode !=null)
-            labelNode.setText(label);
+        labelNode.setText(label);
     }
 
     public StringProperty labelProperty() {
-        return label;
+        return labelNode.textProperty();
     }
 
     /**
      * Text to display inside the info node
      */
-    private StringProperty text;
-
     public String getText() {
-        return text.get();
+        return infoNode.getText();
     }
 
     public void setText(String text) {
-        this.text.set(text);
-        if(infoNode !=null)
-            infoNode.setText(text);
+        infoNode.setText(text);
     }
 
     public StringProperty textProperty() {
-        return text;
+        return infoNode.textProperty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<InfoItem, UpdateChannel.Slot<String>> TEXT_SLOT =
+            (AtomicReferenceFieldUpdater<InfoItem, UpdateChannel.Slot<String>>) (AtomicReferenceFieldUpdater<InfoItem, ?>)
+                    AtomicReferenceFieldUpdater.newUpdater(InfoItem.class, UpdateChannel.Slot.class, "textSlot");
+
+    private volatile UpdateChannel.Slot<String> textSlot;
+
+    /**
+     * Update the text from any thread.
+     * Only the latest value is applied, once per pulse, on the JavaFX Application Thread.
+     */
+    public void updateText(String text){
+        if(textSlot == null)
+            TEXT_SLOT.compareAndSet(this, null, UpdateChannel.getDefault().<String>slot(this::setText));
+        textSlot.set(text);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * POSITION                                                                                                        *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The stripe of the item in its InfoView, 0 for an even row, 1 for an odd row, -1 if it is not in one
+     */
+    private int stripe = -1;
+
+    /**
+     * Indicates if the item is the first one of its InfoView
+     */
+    private boolean first;
+
+    /**
+     * Indicates if the item is the last one of its InfoView
+     */
+    private boolean last;
+
+    int getStripe() {
+        return stripe;
+    }
+
+    /**
+     * Set the stripe of the item, updating the :even and :odd pseudo-classes if they change
+     */
+    void setStripe(int stripe){
+        if(this.stripe != stripe){
+            this.stripe = stripe;
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.css(Component.INFO_VIEW);
+            pseudoClassStateChanged(EVEN_PSEUDOCLASS_STATE, stripe == 0);
+            pseudoClassStateChanged(ODD_PSEUDOCLASS_STATE, stripe == 1);
+        }
     }
 
+    /**
+     * Set if the item is the first one, updating the :first-item pseudo-class if it changes
+     */
+    void setFirst(boolean first){
+        if(this.first != first){
+            this.first = first;
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.css(Component.INFO_VIEW);
+            pseudoClassStateChanged(FIRST_PSEUDOCLASS_STATE, first);
+        }
+    }
+
+    /**
+     * Set if the item is the last one, updating the :last-item pseudo-class if it changes
+     */
+    void setLast(boolean last){
+        if(this.last != last){
+            this.last = last;
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.css(Component.INFO_VIEW);
+            pseudoClassStateChanged(LAST_PSEUDOCLASS_STATE, last);
+        }
+    }
+
+    /**
+     * Indicates if the item matches the search of its InfoView
+     */
+    private boolean match;
+
+    public boolean isMatch() {
+        return match;
+    }
+
+    /**
+     * Set if the item matches the search, updating the :match pseudo-class if it changes
+     */
+    void setMatch(boolean match){
+        if(this.match != match){
+            this.match = match;
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.css(Component.INFO_VIEW);
+            pseudoClassStateChanged(MATCH_PSEUDOCLASS_STATE, match);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.erwandano.fxcomponents;
+
+/**
+ * A couple (label, info) displayed by a VirtualInfoView.
+ * Records are immutable, replace a record in the list to change the info displayed.
+ */
+public final class InfoRecord {
+
+    private final String label;
+
+    private final String text;
+
+    public InfoRecord(String label, String text){
+        this.label = label;
+        this.text = text;
+    }
+
+    /**
+     * Label of the info to display
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Info to display
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return label + " : " + text;
+    }
+}
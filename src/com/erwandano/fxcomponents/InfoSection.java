@@ -0,0 +1,217 @@
+package com.erwandano.fxcomponents;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.BooleanPropertyBase;
+import javafx.css.PseudoClass;
+import javafx.scene.control.Label;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A collapsible group of (label, info) couples, to be added to an InfoView :
+ *
+ * ----------------------------------------------------------------------
+ * Headers
+ *   Label         Information about the label
+ *   Other label   Other information
+ * ----------------------------------------------------------------------
+ *
+ * The section starts collapsed and only holds its couples as InfoRecord objects. The InfoItem nodes are created
+ * the first time the section is expanded, then kept while it is collapsed.
+ * Each section lays out its items in its own InfoView, so expanding or collapsing a section does not measure
+ * the labels of the other sections again. Clicking the header toggles the section.
+ */
+public class InfoSection extends VBox {
+
+    private static final PseudoClass EXPANDED_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("expanded");
+
+    public InfoSection(){
+        this(null);
+    }
+
+    public InfoSection(String title){
+        header = new Label(title);
+        header.getStyleClass().add("info-section-header");
+        header.setMaxWidth(Double.MAX_VALUE);
+        header.setOnMouseClicked(event -> {
+            if(event.getButton() == MouseButton.PRIMARY)
+                setExpanded(!isExpanded());
+        });
+        getChildren().add(header);
+        getStyleClass().add("info-section");
+    }
+
+    public InfoSection(String title, InfoRecord... records){
+        this(title, Arrays.asList(records));
+    }
+
+    public InfoSection(String title, Collection<InfoRecord> records){
+        this(title);
+        this.records.addAll(records);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ATTRIBUTES                                                                                                      *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The header of the section, displaying its title
+     */
+    private final Label header;
+
+    public Label getHeader() {
+        return header;
+    }
+
+    public String getTitle() {
+        return header.getText();
+    }
+
+    public void setTitle(String title) {
+        header.setText(title);
+    }
+
+    /**
+     * The couples not materialized yet, cleared when the InfoItem nodes are created
+     */
+    private List<InfoRecord> records = new ArrayList<>();
+
+    /**
+     * The view holding the InfoItem nodes, created on the first expansion
+     */
+    private InfoView infoView;
+
+    /**
+     * @return True if the InfoItem nodes were created
+     */
+    public boolean isMaterialized() {
+        return infoView != null;
+    }
+
+    /**
+     * @return The view holding the items of the section, their nodes are created if needed
+     */
+    public InfoView getInfoView() {
+        materialize();
+        return infoView;
+    }
+
+    /**
+     * Add a couple to the section, its node is only created when the section is materialized
+     */
+    public void add(String label, String text){
+        add(new InfoRecord(label, text));
+    }
+
+    public void add(InfoRecord record){
+        if(infoView == null)
+            records.add(record);
+        else
+            infoView.getChildren().add(createItem(record));
+    }
+
+    /**
+     * @return The number of couples in the section
+     */
+    public int size(){
+        return infoView == null ? records.size() : infoView.getChildren().size();
+    }
+
+    /**
+     * Indicates if the items of the section are displayed, the property is only created when it is requested
+     */
+    private BooleanProperty expanded;
+
+    private boolean expandedValue;
+
+    public boolean isExpanded() {
+        return expanded == null ? expandedValue : expanded.get();
+    }
+
+    public void setExpanded(boolean expanded) {
+        if(this.expanded == null){
+            if(expandedValue != expanded){
+                expandedValue = expanded;
+                expandedChanged(expanded);
+            }
+        } else {
+            this.expanded.set(expanded);
+        }
+    }
+
+    public BooleanProperty expandedProperty() {
+        if(expanded == null){
+            expanded = new BooleanPropertyBase(expandedValue) {
+                @Override
+                protected void invalidated() {
+                    expandedChanged(get());
+                }
+
+                @Override
+                public Object getBean() {
+                    return InfoSection.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "expanded";
+                }
+            };
+        }
+        return expanded;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * EXPANSION                                                                                                       *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Add or remove the items of the section.
+     * A collapsed section keeps its InfoView out of the scene graph, so it is neither styled nor laid out.
+     */
+    private void expandedChanged(boolean expanded){
+        pseudoClassStateChanged(EXPANDED_PSEUDOCLASS_STATE, expanded);
+        if(expanded){
+            materialize();
+            if(!getChildren().contains(infoView))
+                getChildren().add(infoView);
+        } else if(infoView != null){
+            getChildren().remove(infoView);
+        }
+    }
+
+    /**
+     * Create the InfoItem nodes of the records, in a single update of the InfoView
+     */
+    private void materialize(){
+        if(infoView != null)
+            return;
+        infoView = new InfoView();
+        infoView.getStyleClass().add("info-section-content");
+        List<InfoRecord> pending = records;
+        records = null;
+        infoView.update(batch -> {
+            for(InfoRecord record : pending){
+                batch.add(createItem(record));
+            }
+        });
+    }
+
+    /**
+     * Create the node displaying a couple, override to customize the items of the section
+     */
+    protected InfoItem createItem(InfoRecord record){
+        InfoItem item = new InfoItem(record.getLabel());
+        item.setText(record.getText());
+        return item;
+    }
+}
@@ -1,11 +1,26 @@
 package com.erwandano.fxcomponents;
 
+import com.erwandano.fxcomponents.metrics.ComponentEvent;
+import com.erwandano.fxcomponents.metrics.ComponentEvents;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.Node;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
 
 /**
  * A component to easily view basic information in the following format :
@@ -18,18 +33,45 @@ import javafx.scene.text.Text;
  *
  * The couple (label, info) is held in an InfoItem object.
  * The InfoView will list all InfoItem object and resize all labels width to
- * the largest width for a better readability.
+ * the largest width for a better readability. The largest width is measured from the
+ * labels and kept up to date as items are added, removed or relabeled.
+ *
+ * The information can be a long text and will wrap to the width of the InfoView. The wrapping widths are
+ * computed in a single pass when the InfoView is laid out, without any binding on the items.
+ * When the InfoView is not resized by its parent (e.g. in a ScrollPane that does not fit its content to
+ * its width), resize() indicates the width the InfoView should wrap to.
+ *
+ * The position of each InfoItem is available to CSS through the :first-item, :last-item, :even and :odd
+ * pseudo-classes, maintained as children are added, removed or moved.
+ *
+ * Many items can be changed at once with update() : the layout, the label measurements and the row styling
+ * are then done once when the changes are committed instead of once per change.
  *
- * The information can be a long text and will wrap accordingly to the observable value
- * passed as a parameter of the resize() function
+ * search() and filter() find the items whose label or info contain words starting with the words of a query.
+ * The items are indexed on a background thread and the result is applied in a single update.
+ *
+ * Rows can be grouped in collapsible InfoSection children, whose InfoItem nodes are only created when they are
+ * first expanded. Each section measures its own labels.
+ *
+ * Every InfoItem is a node of the scene graph, to display thousands of items use a VirtualInfoView.
  * TODO Make sure that children are all InfoItem objects
  */
 public class InfoView extends VBox {
 
     /**
-     * Indicates if the initialization has already been done
+     * The smallest wrapping width given to the info texts, a wrapping width of 0 would disable the wrapping
+     */
+    static final double MIN_WRAPPING_WIDTH = 1;
+
+    /**
+     * The width passed to the last call of resize(), used as the preferred width of the InfoView
      */
-    private boolean initDone = false;
+    private ReadOnlyDoubleProperty resizeWidth;
+
+    /**
+     * The width of the last layout, only kept when the metrics or the events are enabled to tell the resizes apart
+     */
+    private double laidOutWidth = -1;
 
     public InfoView() {
         init();
@@ -52,39 +94,607 @@ public class InfoView extends VBox {
 
     private void init(){
         this.getStyleClass().add("info-view");
+        getChildren().forEach(this::watch);
+        getChildren().addListener((ListChangeListener<Node>) c -> {
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.listener(Component.INFO_VIEW);
+            while (c.next()) {
+                if(c.wasPermutated()){
+                    refreshStripes(c.getFrom(), c.getTo());
+                    continue;
+                }
+                c.getRemoved().forEach(this::unwatch);
+                c.getAddedSubList().forEach(this::watch);
+                refreshStripes(c.getFrom(), c.getFrom() + c.getAddedSize());
+            }
+            if(updating == 0) {
+                refreshEnds();
+                refreshLabelWidth();
+                if(ComponentMetrics.ENABLED)
+                    ComponentMetrics.update(Component.INFO_VIEW);
+            }
+        });
+        refreshStripes(0, getChildren().size());
+        refreshEnds();
+        refreshLabelWidth();
+        labelWidth.addListener(observable -> requestLayout());
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * LABEL COLUMN                                                                                                    *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The widths of the labels
+     */
+    private final LabelColumn labelColumn = new LabelColumn();
+
+    /**
+     * Measures a label again when its text or font changes
+     */
+    private final InvalidationListener labelListener = observable -> {
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.listener(Component.INFO_VIEW);
+        Node label = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+        if(label.getParent() instanceof InfoItem) {
+            measure((InfoItem) label.getParent());
+            if(!isUpdating())
+                refreshLabelWidth();
+        }
+    };
+
+    private void watch(Node node){
+        if(node instanceof InfoItem){
+            InfoItem item = (InfoItem) node;
+            item.getLabelNode().textProperty().addListener(labelListener);
+            item.getLabelNode().fontProperty().addListener(labelListener);
+            measure(item);
+            if(index != null)
+                watchIndexed(item);
+            /* The new rows are striped by the children listener, after they are matched */
+            rematch(item);
+            item.visibleProperty().addListener(visibleListener);
+        }
+    }
+
+    private void unwatch(Node node){
+        if(node instanceof InfoItem){
+            InfoItem item = (InfoItem) node;
+            item.setStripe(-1);
+            if(item == firstItem)
+                firstItem = null;
+            if(item == lastItem)
+                lastItem = null;
+            item.setFirst(false);
+            item.setLast(false);
+            item.visibleProperty().removeListener(visibleListener);
+            if(query != null)
+                applyMatch(item, false, false);
+            item.getLabelNode().textProperty().removeListener(labelListener);
+            item.getLabelNode().fontProperty().removeListener(labelListener);
+            labelColumn.remove(item);
+            pendingLabels.remove(item);
+            if(index != null)
+                unwatchIndexed(item);
+        }
+    }
+
+    /**
+     * Add a collapsed section holding the given couples, their InfoItem nodes are created on its first expansion
+     * @return The new section
+     */
+    public InfoSection addSection(String title, Collection<InfoRecord> records){
+        InfoSection section = new InfoSection(title, records);
+        getChildren().add(section);
+        return section;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ROW POSITIONS                                                                                                   *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The item holding the :first-item pseudo-class
+     */
+    private InfoItem firstItem;
+
+    /**
+     * The item holding the :last-item pseudo-class
+     */
+    private InfoItem lastItem;
+
+    /**
+     * Restripes the rows when an item is shown or hidden
+     */
+    private final InvalidationListener visibleListener = observable -> {
+        Node node = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+        /* Reading the value also validates the property, so that the listener is notified of the next change */
+        if(node.isVisible() && this.filtered.remove(node)){
+            /* Shown again by the application while filtered out, the filter does not own its visibility anymore */
+            node.setManaged(true);
+        }
+        if(isUpdating()){
+            /* Finding the child would be done for every item of the update, restripe all the rows once instead */
+            this.dirtyIndex = 0;
+            return;
+        }
+        int i = getChildren().indexOf(node);
+        if(i >= 0){
+            refreshStripes(i, i + 1);
+            refreshEnds();
+        }
+    };
+
+    /**
+     * @return True if the node is a row of the InfoView, the hidden items are not rows
+     */
+    private static boolean isRow(Node node){
+        return node instanceof InfoItem && node.isVisible();
+    }
+
+    /**
+     * Give the :even or :odd pseudo-class to the rows from the child at index from.
+     * The stripes are set up to the child at index to (exclusive), then until a row already holds the right stripe :
+     * the rows after it did not move relative to it, so their stripes are right too.
+     */
+    private void refreshStripes(int from, int to){
+        if(updating > 0){
+            /* Done once at the end of the update */
+            dirtyIndex = Math.min(dirtyIndex, from);
+            return;
+        }
+        ObservableList<Node> children = getChildren();
+        int stripe = 0;
+        for(int i=from-1; i>=0; i--){
+            Node node = children.get(i);
+            if(isRow(node)){
+                stripe = 1 - ((InfoItem) node).getStripe();
+                break;
+            }
+        }
+        for(int i=from; i<children.size(); i++){
+            Node node = children.get(i);
+            if(isRow(node)){
+                InfoItem item = (InfoItem) node;
+                if(i >= to && item.getStripe() == stripe)
+                    return;
+                item.setStripe(stripe);
+                stripe = 1 - stripe;
+            } else if(node instanceof InfoItem){
+                ((InfoItem) node).setStripe(-1);
+            }
+        }
+    }
+
+    /**
+     * Move the :first-item and :last-item pseudo-classes to the first and last rows
+     */
+    private void refreshEnds(){
+        ObservableList<Node> children = getChildren();
+        InfoItem first = null;
+        for(int i=0; i<children.size() && first == null; i++){
+            if(isRow(children.get(i)))
+                first = (InfoItem) children.get(i);
+        }
+        if(first != firstItem){
+            if(firstItem != null)
+                firstItem.setFirst(false);
+            if(first != null)
+                first.setFirst(true);
+            firstItem = first;
+        }
+        InfoItem item = null;
+        for(int i=children.size()-1; i>=0 && item == null; i--){
+            if(isRow(children.get(i)))
+                item = (InfoItem) children.get(i);
+        }
+        if(item != lastItem){
+            if(lastItem != null)
+                lastItem.setLast(false);
+            if(item != null)
+                item.setLast(true);
+            lastItem = item;
+        }
+    }
+
+    /**
+     * Measure the label of an item, or wait for the end of the update to do it
+     */
+    private void measure(InfoItem item){
+        if(updating > 0)
+            pendingLabels.add(item);
+        else
+            labelColumn.update(item);
+    }
+
+    private void refreshLabelWidth(){
+        labelWidth.set(labelColumn.getWidth());
+    }
+
+    /**
+     * The width of the widest label
+     */
+    private final ReadOnlyDoubleWrapper labelWidth = new ReadOnlyDoubleWrapper(this, "labelWidth");
+
+    public final double getLabelWidth() {
+        return labelWidth.get();
+    }
+
+    public final ReadOnlyDoubleProperty labelWidthProperty() {
+        return labelWidth.getReadOnlyProperty();
     }
 
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * SEARCH                                                                                                          *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The index of the items, created by the first search
+     */
+    private InfoIndex index;
+
+    /**
+     * Sends the texts of an item to the index when they change
+     */
+    private final InvalidationListener indexListener = observable -> {
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.listener(Component.INFO_VIEW);
+        Node text = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+        if(text.getParent() instanceof InfoItem) {
+            InfoItem item = (InfoItem) text.getParent();
+            index.put(item, item.getLabel(), item.getText());
+            rematch(item);
+        }
+    };
+
+    /**
+     * The current query, null if there is none
+     */
+    private String query;
+
+    /**
+     * Indicates if the items not matching the query are hidden
+     */
+    private boolean hideMismatches;
+
     /**
-     * Resize all InfoItem children to the new width of the parent container of the InfoView object
+     * Incremented for each query so that the result of an older query is not applied
+     */
+    private long queryNumber;
+
+    /**
+     * The items hidden by the filter. Only these are shown again when the filter changes, the items hidden
+     * by the application stay hidden.
+     */
+    private final Set<InfoItem> filtered = new HashSet<>();
+
+    /**
+     * The items matched on the JavaFX Application Thread since the current query was sent to the index.
+     * Their texts changed after the query was sent, so the result of the index is outdated for them.
+     */
+    private final Set<InfoItem> rematched = new HashSet<>();
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Highlight the items matching a query with the :match pseudo-class
+     * @param query The words to look for, null or blank to clear the search
+     */
+    public void search(String query){
+        query(query, false);
+    }
+
+    /**
+     * Only show the items matching a query, and highlight them with the :match pseudo-class
+     * @param query The words to look for, null or blank to show every item
+     */
+    public void filter(String query){
+        query(query, true);
+    }
+
+    /**
+     * Clear the search or the filter
+     */
+    public void clearSearch(){
+        query(null, false);
+    }
+
+    private void query(String query, boolean hide){
+        long number = ++queryNumber;
+        this.query = query == null || query.trim().isEmpty() ? null : query;
+        this.hideMismatches = hide;
+        rematched.clear();
+        if(this.query == null){
+            applySearch(null);
+            return;
+        }
+        if(index == null){
+            index = new InfoIndex();
+            for(Node node : getChildren()){
+                if(node instanceof InfoItem)
+                    watchIndexed((InfoItem) node);
+            }
+        }
+        index.search(this.query).thenAccept(matches -> Platform.runLater(() -> {
+            if(number == queryNumber)
+                applySearch(matches);
+        }));
+    }
+
+    /**
+     * Show and highlight the matching items in one update
+     * @param matches The matching items, null to clear the search
+     */
+    private void applySearch(Set<InfoItem> matches){
+        beginUpdate();
+        try {
+            for (Node node : getChildren()) {
+                if (node instanceof InfoItem && !rematched.contains(node)) {
+                    InfoItem item = (InfoItem) node;
+                    boolean match = matches != null && matches.contains(item);
+                    applyMatch(item, match, matches != null && hideMismatches);
+                }
+            }
+        } finally {
+            commitUpdate();
+        }
+    }
+
+    /**
+     * Match an item added or changed while a query is active, without waiting for the index
+     */
+    private void rematch(InfoItem item){
+        if(query == null)
+            return;
+        rematched.add(item);
+        applyMatch(item, InfoIndex.matches(query, item.getLabel(), item.getText()), hideMismatches);
+    }
+
+    /**
+     * Highlight an item if it matches, and hide it if it does not match and the mismatches are hidden.
+     * An item hidden by the filter is shown again otherwise.
+     */
+    private void applyMatch(InfoItem item, boolean match, boolean hideMismatch){
+        item.setMatch(match);
+        if(!match && hideMismatch){
+            if(item.isVisible() && filtered.add(item)){
+                item.setVisible(false);
+                item.setManaged(false);
+            }
+        } else if(filtered.remove(item)){
+            item.setVisible(true);
+            item.setManaged(true);
+        }
+    }
+
+    private void watchIndexed(InfoItem item){
+        item.getLabelNode().textProperty().addListener(indexListener);
+        item.getInfoNode().textProperty().addListener(indexListener);
+        index.put(item, item.getLabel(), item.getText());
+    }
+
+    private void unwatchIndexed(InfoItem item){
+        item.getLabelNode().textProperty().removeListener(indexListener);
+        item.getInfoNode().textProperty().removeListener(indexListener);
+        index.remove(item);
+        rematched.remove(item);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * BULK UPDATES                                                                                                    *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The number of updates in progress
+     */
+    private int updating = 0;
+
+    /**
+     * The first child whose stripe must be refreshed when the update is committed
+     */
+    private int dirtyIndex = Integer.MAX_VALUE;
+
+    /**
+     * The items whose label must be measured when the update is committed
+     */
+    private final Set<InfoItem> pendingLabels = new LinkedHashSet<>();
+
+    /**
+     * Indicates if a layout was requested during the update
+     */
+    private boolean layoutRequested = false;
+
+    /**
+     * Apply several changes to the InfoView and its items, then lay it out once.
+     *
+     *   infoView.update(batch -> {
+     *       batch.setText(sizeItem, "12 KB");
+     *       batch.setText(dateItem, "2016-03-01");
+     *   });
+     *
+     * @param changes The changes to apply
+     */
+    public void update(Consumer<Batch> changes){
+        beginUpdate();
+        try {
+            changes.accept(new Batch());
+        } finally {
+            commitUpdate();
+        }
+    }
+
+    /**
+     * Start an update : until commitUpdate() is called, the InfoView is neither laid out nor restyled
+     * and the labels are not measured. Updates can be nested.
+     */
+    public void beginUpdate(){
+        updating++;
+    }
+
+    /**
+     * End an update started with beginUpdate(), the last one to end applies all the changes at once
+     */
+    public void commitUpdate(){
+        if(updating == 0)
+            throw new IllegalStateException("No update in progress");
+        if(--updating > 0)
+            return;
+        if(dirtyIndex != Integer.MAX_VALUE){
+            int from = dirtyIndex;
+            dirtyIndex = Integer.MAX_VALUE;
+            refreshStripes(from, getChildren().size());
+        }
+        refreshEnds();
+        for(InfoItem item : pendingLabels){
+            labelColumn.update(item);
+        }
+        pendingLabels.clear();
+        refreshLabelWidth();
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.INFO_VIEW);
+        if(layoutRequested){
+            layoutRequested = false;
+            super.requestLayout();
+        }
+    }
+
+    /**
+     * @return True if an update is in progress
+     */
+    public boolean isUpdating(){
+        return updating > 0;
+    }
+
+    @Override
+    public void requestLayout() {
+        if(updating > 0) {
+            layoutRequested = true;
+            return;
+        }
+        super.requestLayout();
+    }
+
+    /**
+     * The changes applied during an update
+     */
+    public final class Batch {
+
+        private Batch(){
+        }
+
+        public void setText(InfoItem item, String text){
+            item.setText(text);
+        }
+
+        public void setLabel(InfoItem item, String label){
+            item.setLabel(label);
+        }
+
+        public void add(InfoItem item){
+            getChildren().add(item);
+        }
+
+        public void remove(InfoItem item){
+            getChildren().remove(item);
+        }
+
+        public InfoView getInfoView(){
+            return InfoView.this;
+        }
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * LAYOUT                                                                                                          *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Requests a layout when the width passed to resize() changes, so that the parent measures the InfoView again
+     */
+    private final InvalidationListener resizeListener = observable -> requestLayout();
+
+    /**
+     * Wrap all InfoItem children to the width of the parent container of the InfoView object.
+     * The wrapping widths are only computed when the InfoView is laid out, a change of the width just
+     * requests a layout.
      *
      * @param readOnlyDoubleProperty The width of the parent container of the InfoView object
      */
     public void resize(ReadOnlyDoubleProperty readOnlyDoubleProperty){
-        ObservableList<Node> children = getChildren();
-        //Find the label max width
-        double labelMaxWidth = 150;
-        //Now bind properties for auto resize
-        int length = children.size();
-        for (Node node : children) {
-            InfoItem item = (InfoItem) node;
-            Text info = item.getInfoNode();
-            Text label = item.getLabelNode();
-            label.setWrappingWidth(labelMaxWidth);
-            info.wrappingWidthProperty().bind(readOnlyDoubleProperty.subtract(labelMaxWidth * 1.5));
-        }
-
-        if(getChildren().size() > 0 && !initDone) {
-            getChildren().get(0).getStyleClass().add("first-item");
-            getChildren().get(getChildren().size() - 1).getStyleClass().add("last-item");
-            for(int i=0; i<length; i++){
-                //children.get(i).getStyleClass().add("infoItem");
-                if(i%2==0){
-                    children.get(i).getStyleClass().add("even");
-                } else {
-                    children.get(i).getStyleClass().add("odd");
-                }
+        if(resizeWidth != null)
+            resizeWidth.removeListener(resizeListener);
+        resizeWidth = readOnlyDoubleProperty;
+        if(resizeWidth != null)
+            resizeWidth.addListener(resizeListener);
+        requestLayout();
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        if(resizeWidth != null)
+            return Math.max(resizeWidth.get(), getLabelWidth() + snappedLeftInset() + snappedRightInset());
+        return super.computePrefWidth(height);
+    }
+
+    /**
+     * Set the wrapping widths of all the InfoItem children before laying them out
+     */
+    @Override
+    protected void layoutChildren() {
+        if(!ComponentMetrics.ENABLED && !ComponentEvents.ENABLED){
+            doLayoutChildren();
+            return;
+        }
+        boolean resized = laidOutWidth != getWidth();
+        laidOutWidth = getWidth();
+        ComponentEvent event = null;
+        if(ComponentEvents.ENABLED){
+            event = ComponentEvents.infoViewLayout(getChildren().size(), getWidth(), resized);
+            if(event != null)
+                event.begin();
+        }
+        long start = System.nanoTime();
+        doLayoutChildren();
+        if(ComponentMetrics.ENABLED){
+            ComponentMetrics.layout(Component.INFO_VIEW);
+            if(resized)
+                ComponentMetrics.INFO_VIEW_RESIZE.recordSince(start);
+        }
+        if(event != null)
+            event.commit();
+    }
+
+    private void doLayoutChildren() {
+        double labelMaxWidth = getLabelWidth();
+        double contentWidth = getWidth() - snappedLeftInset() - snappedRightInset();
+        for (Node node : getChildren()) {
+            if(node instanceof InfoItem) {
+                InfoItem item = (InfoItem) node;
+                double infoWidth = contentWidth - labelMaxWidth - item.getSpacing()
+                        - item.snappedLeftInset() - item.snappedRightInset();
+                setWrappingWidth(item.getLabelNode(), labelMaxWidth);
+                setWrappingWidth(item.getInfoNode(), Math.max(MIN_WRAPPING_WIDTH, infoWidth));
             }
-            initDone = true;
         }
+        super.layoutChildren();
+    }
+
+    /**
+     * Only touch the wrapping width when it changes, a change invalidates the layout of the item
+     */
+    private static void setWrappingWidth(Text text, double width){
+        if(text.getWrappingWidth() != width)
+            text.setWrappingWidth(width);
     }
 }
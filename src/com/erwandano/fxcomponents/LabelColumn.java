@@ -0,0 +1,126 @@
+package com.erwandano.fxcomponents;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps track of the width of the widest label of an InfoView.
+ *
+ * The width of each label is measured once per (text, font) and kept in a shared cache. The widths of the
+ * labels are held in a sorted multiset so that adding, removing or relabeling an item costs O(log n).
+ */
+final class LabelColumn {
+
+    private static final int CACHE_SIZE = 4096;
+
+    /**
+     * The node used to measure the texts
+     */
+    private static final Text MEASURE = new Text();
+
+    /**
+     * Measured widths by (text, font), least recently used first
+     */
+    private static final Map<Measure, Double> CACHE = new LinkedHashMap<Measure, Double>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Measure, Double> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * The measured width of each item
+     */
+    private final Map<InfoItem, Double> widths = new HashMap<>();
+
+    /**
+     * The number of items for each width
+     */
+    private final TreeMap<Double, Integer> counts = new TreeMap<>();
+
+    /**
+     * @return The width of the widest label, 0 if there is no label
+     */
+    double getWidth(){
+        return counts.isEmpty() ? 0 : counts.lastKey();
+    }
+
+    /**
+     * Measure the label of a new item, or measure it again after its text or font changed
+     */
+    void update(InfoItem item){
+        Text label = item.getLabelNode();
+        update(item, measure(label.getText(), label.getFont()));
+    }
+
+    /**
+     * Set the measured width of the label of an item
+     */
+    void update(InfoItem item, double width){
+        Double previous = widths.put(item, width);
+        if(previous != null){
+            if(previous == width)
+                return;
+            decrement(previous);
+        }
+        counts.merge(width, 1, Integer::sum);
+    }
+
+    /**
+     * Forget a removed item
+     */
+    void remove(InfoItem item){
+        Double previous = widths.remove(item);
+        if(previous != null)
+            decrement(previous);
+    }
+
+    private void decrement(double width){
+        counts.computeIfPresent(width, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Measure the width of a text, without wrapping
+     */
+    static double measure(String text, Font font){
+        if(text == null || text.isEmpty())
+            return 0;
+        Measure key = new Measure(text, font);
+        Double width = CACHE.get(key);
+        if(width == null){
+            MEASURE.setFont(font);
+            MEASURE.setText(text);
+            width = Math.ceil(MEASURE.getLayoutBounds().getWidth());
+            CACHE.put(key, width);
+        }
+        return width;
+    }
+
+    private static final class Measure {
+        final String text;
+        final Font font;
+
+        Measure(String text, Font font){
+            this.text = text;
+            this.font = font;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Measure)) return false;
+            Measure measure = (Measure) o;
+            return text.equals(measure.text) && font.equals(measure.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + font.hashCode();
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.erwandano.fxcomponents;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Sums the progress of many tasks making up one operation and displays it in progress components.
+ *
+ * The work done and the total work are accumulated in striped adders, so the workers never contend on a shared
+ * lock or counter. The displayed progress is refreshed on the JavaFX Application Thread at most once per
+ * refresh interval, whatever the number of tasks and the rate at which they progress.
+ *
+ *   ProgressAggregator aggregator = new ProgressAggregator();
+ *   aggregator.bind(textProgressBar);
+ *   ProgressAggregator.Handle handle = aggregator.register(fileSize);   // for each worker
+ *   handle.advance(bytesRead);                                         // from the worker thread
+ *   handle.done();
+ */
+public class ProgressAggregator {
+
+    private static final long DEFAULT_REFRESH_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
+
+    public ProgressAggregator(){
+        this(DEFAULT_REFRESH_INTERVAL, TimeUnit.NANOSECONDS);
+    }
+
+    public ProgressAggregator(long refreshInterval, TimeUnit unit){
+        this.refreshInterval = unit.toNanos(refreshInterval);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ATTRIBUTES                                                                                                      *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    private final DoubleAdder workDone = new DoubleAdder();
+
+    private final DoubleAdder totalWork = new DoubleAdder();
+
+    /**
+     * Incremented by reset(), so that the handles registered before stop reporting their work
+     */
+    private volatile int generation;
+
+    /**
+     * The JavaFX Tasks followed until they end
+     */
+    private final List<TaskProgress> tasks = new ArrayList<>();
+
+    /**
+     * The components displaying the progress
+     */
+    private final List<TextProgressBar> progressBars = new ArrayList<>();
+
+    private final List<TextProgressIndicator> progressIndicators = new ArrayList<>();
+
+    /**
+     * The minimum time between two refreshes of the components, in nanoseconds
+     */
+    private final long refreshInterval;
+
+    private long lastRefresh;
+
+    private double displayedProgress = Double.NaN;
+
+    /**
+     * Created by start(), so that the aggregator can be created before the JavaFX toolkit is running
+     */
+    private AnimationTimer timer;
+
+    /**
+     * @return The work done by all the registered tasks
+     */
+    public double getWorkDone(){
+        return workDone.sum();
+    }
+
+    /**
+     * @return The total work of all the registered tasks
+     */
+    public double getTotalWork(){
+        return totalWork.sum();
+    }
+
+    /**
+     * @return The progress between 0 and 1, or -1 if no work was registered
+     */
+    public double getProgress(){
+        double total = totalWork.sum();
+        if(total <= 0)
+            return -1;
+        return Math.min(1, workDone.sum() / total);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * TASKS                                                                                                           *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Register a worker
+     * @param totalWork The amount of work the worker has to do
+     * @return          The handle the worker uses to report its progress
+     */
+    public Handle register(double totalWork){
+        this.totalWork.add(totalWork);
+        return new Handle(totalWork, generation);
+    }
+
+    /**
+     * Register a JavaFX Task, its workDone and totalWork are followed until it ends.
+     * The work left by a task that succeeds is counted as done, and removed from the total work
+     * if the task fails or is cancelled.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void register(Task<?> task){
+        TaskProgress progress = new TaskProgress(task);
+        tasks.add(progress);
+        if(task.isDone())
+            progress.end(task.getState());
+    }
+
+    /**
+     * A Task reports -1 while its work is unknown
+     */
+    private static double positive(Number value){
+        return Math.max(0, value.doubleValue());
+    }
+
+    /**
+     * Forget every registered task. The tasks and handles registered before are not followed anymore.
+     * Must be called on the JavaFX Application Thread if JavaFX Tasks were registered.
+     */
+    public void reset(){
+        generation++;
+        for(TaskProgress task : new ArrayList<>(tasks)){
+            task.unwatch();
+        }
+        workDone.reset();
+        totalWork.reset();
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * DISPLAY                                                                                                         *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Display the progress in the given TextProgressBar
+     */
+    public void bind(TextProgressBar progressBar){
+        progressBars.add(progressBar);
+    }
+
+    public void unbind(TextProgressBar progressBar){
+        progressBars.remove(progressBar);
+    }
+
+    /**
+     * Display the progress in the given TextProgressIndicator
+     */
+    public void bind(TextProgressIndicator progressIndicator){
+        progressIndicators.add(progressIndicator);
+    }
+
+    public void unbind(TextProgressIndicator progressIndicator){
+        progressIndicators.remove(progressIndicator);
+    }
+
+    /**
+     * Start refreshing the components.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void start(){
+        if(timer == null){
+            timer = new AnimationTimer() {
+                @Override
+                public void handle(long now) {
+                    if(now - lastRefresh >= refreshInterval){
+                        lastRefresh = now;
+                        refresh();
+                    }
+                }
+            };
+        }
+        timer.start();
+    }
+
+    /**
+     * Stop refreshing the components, after displaying the current progress.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public void stop(){
+        if(timer != null)
+            timer.stop();
+        refresh();
+    }
+
+    /**
+     * Display the current progress, if it changed since the last refresh
+     */
+    public void refresh(){
+        double progress = getProgress();
+        if(progress == displayedProgress)
+            return;
+        displayedProgress = progress;
+        int percentage = (int) (Math.max(0, progress) * 100);
+        String text = percentage + "%";
+        for(TextProgressBar progressBar : progressBars){
+            progressBar.setText(text);
+            progressBar.setProgress(progress);
+        }
+        for(TextProgressIndicator progressIndicator : progressIndicators){
+            progressIndicator.setText(text);
+            progressIndicator.setProgress(progress);
+        }
+    }
+
+    /**
+     * Used by a worker thread to report its progress.
+     * A handle must only be used by one thread at a time.
+     */
+    public final class Handle {
+
+        private final double totalWork;
+
+        private final int generation;
+
+        private double workDone;
+
+        private Handle(double totalWork, int generation){
+            this.totalWork = totalWork;
+            this.generation = generation;
+        }
+
+        /**
+         * Add some work done. Ignored once the aggregator was reset.
+         */
+        public void advance(double work){
+            double added = Math.min(work, totalWork - workDone);
+            if(added > 0 && generation == ProgressAggregator.this.generation){
+                workDone += added;
+                ProgressAggregator.this.workDone.add(added);
+            }
+        }
+
+        /**
+         * Set the work done since the registration
+         */
+        public void setWorkDone(double work){
+            advance(work - workDone);
+        }
+
+        /**
+         * Mark the whole work of this worker as done
+         */
+        public void done(){
+            advance(totalWork - workDone);
+        }
+
+        public double getWorkDone() {
+            return workDone;
+        }
+
+        public double getTotalWork() {
+            return totalWork;
+        }
+    }
+
+    /**
+     * Follows the workDone and totalWork of a JavaFX Task, on the JavaFX Application Thread
+     */
+    private final class TaskProgress {
+
+        private final Task<?> task;
+
+        /**
+         * The work done and total work of the task added to the aggregator
+         */
+        private double workDone;
+
+        private double totalWork;
+
+        private final ChangeListener<Number> workDoneListener = (observable, oldValue, newValue) ->
+                setWorkDone(positive(newValue));
+
+        private final ChangeListener<Number> totalWorkListener = (observable, oldValue, newValue) ->
+                setTotalWork(positive(newValue));
+
+        private final ChangeListener<Worker.State> stateListener = (observable, oldState, state) -> end(state);
+
+        private TaskProgress(Task<?> task){
+            this.task = task;
+            setWorkDone(positive(task.getWorkDone()));
+            setTotalWork(positive(task.getTotalWork()));
+            task.workDoneProperty().addListener(workDoneListener);
+            task.totalWorkProperty().addListener(totalWorkListener);
+            task.stateProperty().addListener(stateListener);
+        }
+
+        /**
+         * Stop following the task once it is done
+         */
+        private void end(Worker.State state){
+            switch (state){
+                case SUCCEEDED:
+                    setWorkDone(totalWork);
+                    unwatch();
+                    break;
+                case FAILED:
+                case CANCELLED:
+                    /* The work left will never be done */
+                    setTotalWork(workDone);
+                    unwatch();
+                    break;
+                default:
+            }
+        }
+
+        private void setWorkDone(double work){
+            ProgressAggregator.this.workDone.add(work - workDone);
+            workDone = work;
+        }
+
+        private void setTotalWork(double work){
+            ProgressAggregator.this.totalWork.add(work - totalWork);
+            totalWork = work;
+        }
+
+        private void unwatch(){
+            task.workDoneProperty().removeListener(workDoneListener);
+            task.totalWorkProperty().removeListener(totalWorkListener);
+            task.stateProperty().removeListener(stateListener);
+            tasks.remove(this);
+        }
+    }
+}
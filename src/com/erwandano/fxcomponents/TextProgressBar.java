@@ -1,8 +1,8 @@
 package com.erwandano.fxcomponents;
 
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
 import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -10,28 +10,19 @@ import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * A progress bar with a text field to indicate the progress thanks to a string
  */
 public class TextProgressBar extends StackPane {
 
     public TextProgressBar(){
-        text = new SimpleStringProperty();
-        progress = new SimpleDoubleProperty();
         progressBar = new ProgressBar();
         label = new Label();
-        hBox = new HBox();
-        hBox.getChildren().add(label);
-        hBox.setAlignment(Pos.CENTER);
+        /* The StackPane stretches the bar to its own width, bounded by its own max width */
+        progressBar.setMaxWidth(Double.MAX_VALUE);
         this.getChildren().addAll(progressBar, label);
-        prefWidthProperty().addListener((observable, oldValue, newValue) -> {
-            hBox.setPrefWidth(newValue.doubleValue());
-            progressBar.setPrefWidth(newValue.doubleValue());
-        });
-        maxWidthProperty().addListener((observable, oldValue, newValue) -> {
-            hBox.setMaxWidth(newValue.doubleValue());
-            progressBar.setMaxWidth(newValue.doubleValue());
-        });
     }
 
     public TextProgressBar(double progress, String labelText){
@@ -75,50 +66,105 @@ public class TextProgressBar extends StackPane {
 
 
     /**
-     * A HBox that helps centering the value
+     * A HBox that helps centering the value, it was never displayed and is only created when it is requested
      */
     private HBox hBox;
 
+    /**
+     * @deprecated The HBox is not part of the TextProgressBar, the label is centered by the StackPane
+     */
+    @Deprecated
     public HBox gethBox() {
+        if(hBox == null){
+            hBox = new HBox();
+            hBox.setAlignment(Pos.CENTER);
+            hBox.prefWidthProperty().bind(prefWidthProperty());
+            hBox.maxWidthProperty().bind(maxWidthProperty());
+        }
         return hBox;
     }
 
     /**
-     * Property holding the progress
+     * The progress, held by the progress bar
      */
-    private DoubleProperty progress;
-
     public double getProgress() {
-        return progress.get();
+        return progressBar.getProgress();
     }
 
     public DoubleProperty progressProperty() {
-        return progress;
+        return progressBar.progressProperty();
     }
 
     public void setProgress(double value){
-        this.progress.setValue(value);
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.TEXT_PROGRESS_BAR);
         this.progressBar.setProgress(value);
     }
 
     /**
-     * Property holding the text
+     * The text, held by the label
      */
-    private StringProperty text;
-
     public String getText() {
-        return text.get();
+        return label.getText();
     }
 
     public StringProperty textProperty() {
-        return text;
+        return label.textProperty();
     }
 
     public void setText(String text){
-        this.text.setValue(text);
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.TEXT_PROGRESS_BAR);
         this.label.setText(text);
     }
 
+    @Override
+    protected void layoutChildren() {
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.layout(Component.TEXT_PROGRESS_BAR);
+        super.layoutChildren();
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * UPDATES FROM OTHER THREADS                                                                                      *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<TextProgressBar, UpdateChannel.Slot<Double>> PROGRESS_SLOT =
+            (AtomicReferenceFieldUpdater<TextProgressBar, UpdateChannel.Slot<Double>>) (AtomicReferenceFieldUpdater<TextProgressBar, ?>)
+                    AtomicReferenceFieldUpdater.newUpdater(TextProgressBar.class, UpdateChannel.Slot.class, "progressSlot");
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<TextProgressBar, UpdateChannel.Slot<String>> TEXT_SLOT =
+            (AtomicReferenceFieldUpdater<TextProgressBar, UpdateChannel.Slot<String>>) (AtomicReferenceFieldUpdater<TextProgressBar, ?>)
+                    AtomicReferenceFieldUpdater.newUpdater(TextProgressBar.class, UpdateChannel.Slot.class, "textSlot");
+
+    private volatile UpdateChannel.Slot<Double> progressSlot;
+
+    private volatile UpdateChannel.Slot<String> textSlot;
+
+    /**
+     * Update the progress from any thread.
+     * Only the latest value is applied, once per pulse, on the JavaFX Application Thread.
+     */
+    public void updateProgress(double value){
+        if(progressSlot == null)
+            PROGRESS_SLOT.compareAndSet(this, null, UpdateChannel.getDefault().<Double>slot(this::setProgress));
+        progressSlot.set(value);
+    }
+
+    /**
+     * Update the text from any thread.
+     * Only the latest value is applied, once per pulse, on the JavaFX Application Thread.
+     */
+    public void updateText(String text){
+        if(textSlot == null)
+            TEXT_SLOT.compareAndSet(this, null, UpdateChannel.getDefault().<String>slot(this::setText));
+        textSlot.set(text);
+    }
+
     public void setPercentage(int percentage) {
         if(percentage>100){
             setText("100%");
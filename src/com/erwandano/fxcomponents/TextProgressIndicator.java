@@ -1,12 +1,13 @@
 package com.erwandano.fxcomponents;
 
 import javafx.beans.property.DoubleProperty;
-import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.scene.control.Label;
 import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.VBox;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * A progress indicator with a text beneath it
  */
@@ -14,28 +15,26 @@ public class TextProgressIndicator extends VBox {
 
 
     public TextProgressIndicator(){
-        text = new SimpleStringProperty();
         progressIndicator = new ProgressIndicator();
-        Label label = new Label();
-        label.textProperty().bind(text);
+        label = new Label();
         this.getChildren().addAll(progressIndicator, label);
     }
 
     /**
-     * The text to display
+     * The label displaying the text
      */
-    private StringProperty text;
+    private Label label;
 
     public String getText() {
-        return text.get();
+        return label.getText();
     }
 
     public StringProperty textProperty() {
-        return text;
+        return label.textProperty();
     }
 
     public void setText(String text) {
-        this.text.set(text);
+        label.setText(text);
     }
 
     /**
@@ -58,4 +57,38 @@ public class TextProgressIndicator extends VBox {
     public DoubleProperty progressProperty(){
         return progressIndicator.progressProperty();
     }
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<TextProgressIndicator, UpdateChannel.Slot<Double>> PROGRESS_SLOT =
+            (AtomicReferenceFieldUpdater<TextProgressIndicator, UpdateChannel.Slot<Double>>) (AtomicReferenceFieldUpdater<TextProgressIndicator, ?>)
+                    AtomicReferenceFieldUpdater.newUpdater(TextProgressIndicator.class, UpdateChannel.Slot.class, "progressSlot");
+
+    @SuppressWarnings("unchecked")
+    private static final AtomicReferenceFieldUpdater<TextProgressIndicator, UpdateChannel.Slot<String>> TEXT_SLOT =
+            (AtomicReferenceFieldUpdater<TextProgressIndicator, UpdateChannel.Slot<String>>) (AtomicReferenceFieldUpdater<TextProgressIndicator, ?>)
+                    AtomicReferenceFieldUpdater.newUpdater(TextProgressIndicator.class, UpdateChannel.Slot.class, "textSlot");
+
+    private volatile UpdateChannel.Slot<Double> progressSlot;
+
+    private volatile UpdateChannel.Slot<String> textSlot;
+
+    /**
+     * Update the progress from any thread.
+     * Only the latest value is applied, once per pulse, on the JavaFX Application Thread.
+     */
+    public void updateProgress(double value){
+        if(progressSlot == null)
+            PROGRESS_SLOT.compareAndSet(this, null, UpdateChannel.getDefault().<Double>slot(this::setProgress));
+        progressSlot.set(value);
+    }
+
+    /**
+     * Update the text from any thread.
+     * Only the latest value is applied, once per pulse, on the JavaFX Application Thread.
+     */
+    public void updateText(String text){
+        if(textSlot == null)
+            TEXT_SLOT.compareAndSet(this, null, UpdateChannel.getDefault().<String>slot(this::setText));
+        textSlot.set(text);
+    }
 }
@@ -0,0 +1,118 @@
+package com.erwandano.fxcomponents;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Carries values written by any thread to the JavaFX Application Thread.
+ *
+ * Each Slot only keeps the latest value written to it. The pending slots are applied together once per pulse,
+ * so the cost on the UI is bounded by the frame rate and not by the rate at which the values are written.
+ * Writing never blocks : the slots and the pending queue are lock-free.
+ *
+ *   UpdateChannel.Slot<String> slot = UpdateChannel.getDefault().slot(label::setText);
+ *   slot.set("Hello");     // from any thread
+ */
+public final class UpdateChannel {
+
+    private static final UpdateChannel DEFAULT = new UpdateChannel();
+
+    /**
+     * @return The channel shared by the components of the library
+     */
+    public static UpdateChannel getDefault(){
+        return DEFAULT;
+    }
+
+    /**
+     * The slots holding a value not applied yet
+     */
+    private final ConcurrentLinkedQueue<Slot<?>> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Indicates if the pulse timer is running or about to be started
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if(!flush()){
+                /* Nothing was written during the last frame, stop until the next write */
+                scheduled.set(false);
+                if(pending.isEmpty() || !scheduled.compareAndSet(false, true))
+                    stop();
+            }
+        }
+    };
+
+    /**
+     * Create a slot applying its values with the given consumer on the JavaFX Application Thread
+     * @param applier   Applies a value, e.g. progressBar::setProgress
+     * @return          A slot accepting values from any thread
+     */
+    public <T> Slot<T> slot(Consumer<? super T> applier){
+        return new Slot<>(this, applier);
+    }
+
+    /**
+     * Apply the pending values right away.
+     * Must be called on the JavaFX Application Thread.
+     * @return True if at least one value was applied
+     */
+    public boolean flush(){
+        boolean applied = false;
+        Slot<?> slot;
+        while((slot = pending.poll()) != null){
+            slot.apply();
+            applied = true;
+        }
+        return applied;
+    }
+
+    private void schedule(Slot<?> slot){
+        pending.add(slot);
+        if(scheduled.compareAndSet(false, true))
+            Platform.runLater(timer::start);
+    }
+
+    /**
+     * Holds the latest value written for one property of a component
+     */
+    public static final class Slot<T> {
+
+        private final UpdateChannel channel;
+
+        private final Consumer<? super T> applier;
+
+        private final AtomicReference<T> value = new AtomicReference<>();
+
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private Slot(UpdateChannel channel, Consumer<? super T> applier){
+            this.channel = channel;
+            this.applier = applier;
+        }
+
+        /**
+         * Write a value, it replaces any value that was not applied yet.
+         * Can be called from any thread.
+         */
+        public void set(T value){
+            this.value.set(value);
+            if(dirty.compareAndSet(false, true))
+                channel.schedule(this);
+        }
+
+        private void apply(){
+            /* Clear the flag first so that a value written while applying is scheduled again */
+            dirty.set(false);
+            applier.accept(value.get());
+        }
+    }
+}
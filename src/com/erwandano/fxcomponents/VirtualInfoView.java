@@ -0,0 +1,154 @@
+package com.erwandano.fxcomponents;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+
+/**
+ * A virtualized InfoView, to display a large number of (label, info) couples :
+ *
+ * ----------------------------------------------------------------------
+ * Label         Information about the label
+ *               that can be a long text tha
+ *               t will wrap.
+ * ----------------------------------------------------------------------
+ *
+ * The couples are held in a list of InfoRecord objects instead of InfoItem nodes.
+ * Only the rows needed to fill the viewport are created, as InfoItem cells recycled while scrolling.
+ * The rows get the same style class and pseudo-classes as the InfoItem children of an InfoView (.info-item,
+ * :first-item, :last-item, :even and :odd) and all labels share the same width so that the information column stays aligned.
+ *
+ * By default the label column fits the widest label displayed, so it can change while scrolling through labels
+ * of different widths. setLabelWidth() gives it a fixed width instead.
+ */
+public class VirtualInfoView extends ListView<InfoRecord> {
+
+    public VirtualInfoView(){
+        super();
+        init();
+    }
+
+    public VirtualInfoView(ObservableList<InfoRecord> records){
+        super(records);
+        init();
+    }
+
+    private void init(){
+        getStyleClass().add("info-view");
+        setFocusTraversable(false);
+        setCellFactory(listView -> new InfoCell());
+    }
+
+    /**
+     * The widths of the labels displayed by the cells
+     */
+    private final LabelColumn labelColumn = new LabelColumn();
+
+    /**
+     * The fixed width of the label column, USE_COMPUTED_SIZE to fit the widest label displayed
+     */
+    private DoubleProperty labelWidth;
+
+    public final double getLabelWidth() {
+        return labelWidth == null ? Region.USE_COMPUTED_SIZE : labelWidth.get();
+    }
+
+    public final void setLabelWidth(double value) {
+        labelWidthProperty().set(value);
+    }
+
+    public final DoubleProperty labelWidthProperty() {
+        if (labelWidth == null) {
+            labelWidth = new SimpleDoubleProperty(this, "labelWidth", Region.USE_COMPUTED_SIZE);
+            labelWidth.addListener(observable -> refreshColumnWidth());
+        }
+        return labelWidth;
+    }
+
+    /**
+     * The width of the label column, the fixed label width or the width of the widest label displayed
+     */
+    private final ReadOnlyDoubleWrapper columnWidth = new ReadOnlyDoubleWrapper(this, "columnWidth");
+
+    public final double getColumnWidth() {
+        return columnWidth.get();
+    }
+
+    public final ReadOnlyDoubleProperty columnWidthProperty() {
+        return columnWidth.getReadOnlyProperty();
+    }
+
+    private void refreshColumnWidth(){
+        double width = getLabelWidth();
+        columnWidth.set(width >= 0 ? width : labelColumn.getWidth());
+    }
+
+    /**
+     * The wrapping width of the info texts, shared by all the cells since they all have the width of the list.
+     * Set by the cells when they are laid out.
+     */
+    private final DoubleProperty infoWrappingWidth = new SimpleDoubleProperty(this, "infoWrappingWidth",
+            InfoView.MIN_WRAPPING_WIDTH);
+
+    /**
+     * A row of the VirtualInfoView, displaying a record in a recycled InfoItem
+     */
+    private class InfoCell extends ListCell<InfoRecord> {
+
+        private final InfoItem infoItem = new InfoItem();
+
+        /**
+         * Measures the label again when its font is changed by CSS
+         */
+        private final InvalidationListener fontListener = observable -> {
+            if(getGraphic() == infoItem)
+                measure();
+        };
+
+        InfoCell(){
+            setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+            infoItem.getLabelNode().wrappingWidthProperty().bind(columnWidth);
+            infoItem.getInfoNode().wrappingWidthProperty().bind(infoWrappingWidth);
+            infoItem.getLabelNode().fontProperty().addListener(fontListener);
+        }
+
+        private void measure(){
+            labelColumn.update(infoItem);
+            refreshColumnWidth();
+        }
+
+        @Override
+        protected void layoutChildren() {
+            double width = getWidth() - snappedLeftInset() - snappedRightInset() - getColumnWidth()
+                    - infoItem.getSpacing() - infoItem.snappedLeftInset() - infoItem.snappedRightInset();
+            infoWrappingWidth.set(Math.max(InfoView.MIN_WRAPPING_WIDTH, width));
+            super.layoutChildren();
+        }
+
+        @Override
+        protected void updateItem(InfoRecord record, boolean empty) {
+            super.updateItem(record, empty);
+            if(empty || record == null){
+                setGraphic(null);
+                labelColumn.remove(infoItem);
+                refreshColumnWidth();
+                return;
+            }
+            infoItem.setLabel(record.getLabel());
+            infoItem.setText(record.getText());
+            measure();
+            int index = getIndex();
+            infoItem.setStripe(index % 2);
+            infoItem.setFirst(index == 0);
+            infoItem.setLast(index == getListView().getItems().size() - 1);
+            setGraphic(infoItem);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.erwandano.fxcomponents.buttons;
 
+import com.erwandano.fxcomponents.FAIcon;
+import com.erwandano.fxcomponents.metrics.ComponentEvent;
+import com.erwandano.fxcomponents.metrics.ComponentEvents;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleStringProperty;
@@ -8,29 +13,55 @@ import javafx.scene.control.Button;
 import javafx.scene.paint.Color;
 import org.controlsfx.glyphfont.FontAwesome;
 import org.controlsfx.glyphfont.Glyph;
-import org.controlsfx.glyphfont.GlyphFont;
-import org.controlsfx.glyphfont.GlyphFontRegistry;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * FontAwesome Button
  * A Button that can display a FontAwesomeIcon as its graphic node
+ *
+ * Like any node, the button can be created and configured on any thread until it is added to a live scene.
+ * Its icon is only rasterized into the shared FAIcon atlas once the button is part of a scene on the
+ * JavaFX Application Thread; when it is added to a scene from another thread, the icon is drawn with the
+ * FontAwesome font instead.
  */
 public class FAButton extends Button {
 
+    /**
+     * Index of the FontAwesome glyphs, keyed by their upper case name.
+     * Built once and shared by every FAButton subclass.
+     */
+    private static final Map<String, FontAwesome.Glyph> GLYPHS = new HashMap<>();
+
     static {
-        // Register a custom default font
-        GlyphFontRegistry.register("FontAwesome", FAButton.class.getClassLoader().getResourceAsStream(
-                "com/erwandano/hexviewer/resources/fontawesome.ttf"
-        ), 16);
+        for( FontAwesome.Glyph glyph : FontAwesome.Glyph.values()){
+            GLYPHS.put(glyph.name(), glyph);
+        }
+    }
+
+    /**
+     * Find the FontAwesome glyph matching a name, ignoring case
+     * @param name  The name of the glyph, e.g. "APPLE" or "apple"
+     * @return      The glyph, or null if there is no glyph with that name
+     */
+    public static FontAwesome.Glyph findGlyph(String name){
+        if(name==null)
+            return null;
+        FontAwesome.Glyph glyph = GLYPHS.get(name);
+        if(glyph==null)
+            glyph = GLYPHS.get(name.toUpperCase(Locale.ROOT));
+        return glyph;
     }
-    public static final GlyphFont fontAwesome = GlyphFontRegistry.font("FontAwesome");
 
 
+    private static final double DEFAULT_SIZE = 14;
 
     public FAButton(){
         super();
-        this.icon = new SimpleStringProperty(this, "APPLE");
-        this.size = new SimpleDoubleProperty(14);
+        this.icon = new SimpleStringProperty(this, "icon");
+        this.size = new SimpleDoubleProperty(this, "size", DEFAULT_SIZE);
         this.getStyleClass().add("fa-button");
     }
 
@@ -50,8 +81,8 @@ public class FAButton extends Button {
 
     public void setSize(double size){
         this.size.setValue(size);
-        if(icon.getValue()!=null)
-            this.setIcon(icon.getValue());
+        if(iconGlyph!=null)
+            iconGlyph.size(size);
     }
 
     public DoubleProperty sizeProperty() {
@@ -63,26 +94,75 @@ public class FAButton extends Button {
      */
     protected StringProperty icon;
 
-
     public String getIcon() {
         return icon.get();
     }
 
     public void setIcon(String icon){
+        ComponentEvent.IconChange event = null;
+        if(ComponentEvents.ENABLED){
+            event = ComponentEvents.iconChange(icon);
+            if(event != null)
+                event.begin();
+        }
         this.icon.setValue(icon);
-        for( FontAwesome.Glyph glyph : FontAwesome.Glyph.values()){
-            if(glyph.name().compareToIgnoreCase(icon) == 0){
-                double size = this.size == null ? 16 : this.size.getValue();
-                char glyphChar = glyph.getChar();
-                iconGlyph = fontAwesome.create(glyphChar);
-                iconGlyph.size(size);
-                iconGlyph.color(Color.BLACK);
-                this.setGraphic(iconGlyph);
-            }
+        FontAwesome.Glyph glyph = findGlyph(icon);
+        if(glyph!=null)
+            setGlyph(glyph);
+        if(event != null && event.shouldCommit()){
+            event.setFound(glyph != null);
+            event.commit();
         }
     }
 
     public StringProperty iconProperty() {
         return icon;
     }
+
+    /**
+     * The FontAwesome glyph resolved from the icon name
+     */
+    protected FontAwesome.Glyph glyph;
+
+    public FontAwesome.Glyph getGlyph() {
+        return glyph;
+    }
+
+    /**
+     * Display the given glyph without looking it up by name
+     * @param glyph The FontAwesome glyph to display
+     */
+    public void setGlyph(FontAwesome.Glyph glyph){
+        if(!glyph.name().equalsIgnoreCase(getIcon()))
+            this.icon.setValue(glyph.name());
+        if(this.glyph == glyph && iconGlyph != null)
+            return;
+        if(ComponentMetrics.ENABLED){
+            ComponentMetrics.update(Component.FA_BUTTON);
+            /* The new graphic node goes through a full CSS pass */
+            ComponentMetrics.css(Component.FA_BUTTON);
+        }
+        this.glyph = glyph;
+        if(iconGlyph!=null)
+            FAIcon.getShared().release(iconGlyph);
+        iconGlyph = createGlyph(glyph.getChar());
+        this.setGraphic(iconGlyph);
+    }
+
+    @Override
+    protected void layoutChildren() {
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.layout(Component.FA_BUTTON);
+        super.layoutChildren();
+    }
+
+    /**
+     * Create the node displaying the icon.
+     * The icon is taken from the shared FAIcon atlas, so the buttons showing the same icon share its rasterization.
+     * @param glyphChar The character of the glyph in the FontAwesome font
+     * @return          The node used as the graphic of the button
+     */
+    protected Glyph createGlyph(char glyphChar){
+        return FAIcon.getShared().glyph(glyphChar, getSize(), Color.BLACK);
+    }
 }
@@ -1,40 +1,41 @@
 package com.erwandano.fxcomponents.buttons;
 
-import javafx.scene.paint.Color;
-import org.controlsfx.glyphfont.FontAwesome;
+import com.erwandano.fxcomponents.FAIcon;
 import org.controlsfx.glyphfont.Glyph;
 
 /**
  * An icon that also serves as a button. No background.
  * The icon is highlighted when hovered to indicate that some action is possible.
+ *
+ * The highlight is a color change of the single glyph node driven by the :hover pseudo-class
+ * (see resources/icon-button.css), so hovering does not create nodes.
+ * Each color is rasterized once in the shared FAIcon atlas, the first time a button shows it, which happens
+ * during the CSS pass of the first hover. The glyph keeps the icons of its last two colors, so hovering
+ * afterwards only switches the image viewport of its ImageView, without allocating or rasterizing.
+ * The colors can be changed with the following selectors :
+ *   .icon-button .glyph-font         { -fx-text-fill: black; }
+ *   .icon-button:hover .glyph-font   { -fx-text-fill: gray; }
  */
 public class IconButton extends FAButton {
 
-
-    private Glyph hoveredGlyph;
+    private static final String STYLESHEET = IconButton.class.getResource(
+            "/com/erwandano/fxcomponents/resources/icon-button.css").toExternalForm();
 
     public IconButton(){
         super();
         this.getStyleClass().add("icon-button");
     }
 
+    /**
+     * The glyph color is left to the stylesheet so that the :hover pseudo-class can change it
+     */
+    @Override
+    protected Glyph createGlyph(char glyphChar){
+        return FAIcon.getShared().glyph(glyphChar, getSize());
+    }
+
     @Override
-    public void setIcon(String icon){
-        this.icon.setValue(icon);
-        for( FontAwesome.Glyph glyph : FontAwesome.Glyph.values()){
-            if(glyph.name().compareToIgnoreCase(icon) == 0){
-                double size = this.size.getValue();
-                char glyphChar = glyph.getChar();
-                iconGlyph = fontAwesome.create(glyphChar);
-                hoveredGlyph = fontAwesome.create(glyphChar);
-                iconGlyph.size(size);
-                hoveredGlyph.size(size);
-                iconGlyph.color(Color.BLACK);
-                hoveredGlyph.color(Color.GRAY);
-                this.setGraphic(iconGlyph);
-            }
-            this.setOnMouseEntered(event -> this.setGraphic(hoveredGlyph));
-            this.setOnMouseExited(event -> this.setGraphic(iconGlyph));
-        }
+    public String getUserAgentStylesheet() {
+        return STYLESHEET;
     }
 }
@@ -0,0 +1,451 @@
+package com.erwandano.fxcomponents.control;
+
+import javafx.css.PseudoClass;
+import javafx.geometry.Point2D;
+import javafx.geometry.Side;
+import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.control.TabPane;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * A content surrounded by docked SplitTabs, on up to four sides :
+ *
+ * ----------------------------------------------------------------------
+ * |     |                     Top tabs                          |     |
+ * |     |-------------------------------------------------------|     |
+ * |Left |                                                       |Right|
+ * |tabs |                      Content                          |tabs |
+ * |     |-------------------------------------------------------|     |
+ * |     |                    Bottom tabs                        |     |
+ * ----------------------------------------------------------------------
+ *
+ * Each side behaves like a SplitTabPane : clicking the selected tab collapses or shows its TabPane, dragging the
+ * divider resizes it, and a TabPane resized below the size threshold is collapsed while its last size is kept.
+ * The size of each side is kept by a SplitTabPosition, created without a SplitPane.
+ *
+ * Instead of nesting one SplitTabPane per side, the TabPanes, their dividers and the content are direct children
+ * of the DockPane, which computes their sizes itself in a single layout pass. The TabPane and the divider of a side
+ * are only created when a tab is docked on that side.
+ */
+public class DockPane extends Region {
+
+    private static final double DEFAULT_DIVIDER_SIZE = 6;
+
+    private static final PseudoClass COLLAPSED_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("collapsed");
+    private static final PseudoClass HORIZONTAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("horizontal");
+    private static final PseudoClass VERTICAL_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("vertical");
+
+    public DockPane(){
+        getStyleClass().add("dock-pane");
+    }
+
+    public DockPane(Node content){
+        this();
+        setContent(content);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ATTRIBUTES                                                                                                      *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The docks, by side, created when a tab is first docked on a side
+     */
+    private final Map<Side, Dock> docks = new EnumMap<>(Side.class);
+
+    /**
+     * The node in the center
+     */
+    private Node content;
+
+    public Node getContent() {
+        return content;
+    }
+
+    public void setContent(Node content) {
+        if(this.content != null)
+            getChildren().remove(this.content);
+        this.content = content;
+        if(content != null)
+            getChildren().add(0, content);
+    }
+
+    /**
+     * The thickness of the dividers
+     */
+    private double dividerSize = DEFAULT_DIVIDER_SIZE;
+
+    public double getDividerSize() {
+        return dividerSize;
+    }
+
+    public void setDividerSize(double dividerSize) {
+        this.dividerSize = dividerSize;
+        requestLayout();
+    }
+
+    /**
+     * The width (or height) of a collapsed TabPane.
+     * With USE_COMPUTED_SIZE, the default, it is the height of the tab headers so that the tabs stay visible and
+     * can be clicked to show the TabPane again.
+     */
+    private double collapsedSize = USE_COMPUTED_SIZE;
+
+    public double getCollapsedSize() {
+        return collapsedSize;
+    }
+
+    public void setCollapsedSize(double collapsedSize) {
+        this.collapsedSize = collapsedSize;
+        requestLayout();
+    }
+
+    /**
+     * The width (or height) below which a TabPane resized with its divider is collapsed
+     */
+    private double sizeThreshold = SplitTabPosition.DEFAULT_WIDTH_THRESHOLD;
+
+    public double getSizeThreshold() {
+        return sizeThreshold;
+    }
+
+    public void setSizeThreshold(double sizeThreshold) {
+        this.sizeThreshold = sizeThreshold;
+        for(Dock dock : docks.values()){
+            dock.position.setWidthThreshold(sizeThreshold);
+        }
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * TABS                                                                                                            *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Dock a tab on a side
+     */
+    public void addTab(Side side, SplitTab splitTab){
+        Dock dock = dock(side);
+        splitTab.setSide(side);
+        splitTab.getLabel().setOnMouseClicked(event -> dock.tabSelection(splitTab));
+        dock.tabPane.getTabs().add(splitTab);
+    }
+
+    /**
+     * Remove a docked tab
+     * @return True if the tab was docked in this DockPane
+     */
+    public boolean removeTab(SplitTab splitTab){
+        for(Dock dock : docks.values()){
+            if(dock.tabPane.getTabs().remove(splitTab)){
+                splitTab.getLabel().setOnMouseClicked(null);
+                if(dock.selectedTab == splitTab)
+                    dock.selectedTab = null;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The TabPane of a side, or null if no tab was docked on that side
+     */
+    public TabPane getTabPane(Side side){
+        Dock dock = docks.get(side);
+        return dock == null ? null : dock.tabPane;
+    }
+
+    /**
+     * Collapse the TabPane of a side
+     */
+    public void collapse(Side side){
+        Dock dock = docks.get(side);
+        if(dock != null)
+            dock.setCollapsed(true);
+    }
+
+    /**
+     * Show the TabPane of a side with its saved size
+     */
+    public void show(Side side){
+        Dock dock = docks.get(side);
+        if(dock != null)
+            dock.setCollapsed(false);
+    }
+
+    /**
+     * @return True if the side has no tab or its TabPane is collapsed
+     */
+    public boolean isCollapsed(Side side){
+        Dock dock = docks.get(side);
+        return dock == null || dock.position.isHidden();
+    }
+
+    /**
+     * @return The width (or height) of the TabPane of a side when it is shown
+     */
+    public double getSavedSize(Side side){
+        Dock dock = docks.get(side);
+        return dock == null ? SplitTabPosition.DEFAULT_WIDTH : dock.position.getSavedWidth();
+    }
+
+    /**
+     * Set the width (or height) of the TabPane of a side when it is shown
+     */
+    public void setSavedSize(Side side, double size){
+        /* The divider position is not used without a SplitPane */
+        dock(side).position.restore(size, 0);
+        requestLayout();
+    }
+
+    private Dock dock(Side side){
+        return docks.computeIfAbsent(side, Dock::new);
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * LAYOUT                                                                                                          *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * @return The size taken by a side along its axis, divider included
+     */
+    private double extent(Side side){
+        Dock dock = docks.get(side);
+        if(dock == null)
+            return 0;
+        return (dock.position.isHidden() ? collapsedSize(dock) : dock.position.getSavedWidth()) + dividerSize;
+    }
+
+    /**
+     * @return The width (or height) of the collapsed TabPane of a dock
+     */
+    private double collapsedSize(Dock dock){
+        if(collapsedSize != USE_COMPUTED_SIZE)
+            return collapsedSize;
+        /*
+         * On the LEFT and RIGHT sides the skin rotates the header area with a transform, which leaves its layout
+         * bounds unrotated : its height is its thickness on every side
+         */
+        return dock.headerArea == null ? 0 : dock.headerArea.prefHeight(-1);
+    }
+
+    /**
+     * Round a size to whole pixels when the DockPane snaps to pixels, the snapped insets being whole pixels too
+     */
+    private double snap(double size){
+        return isSnapToPixel() ? Math.round(size) : size;
+    }
+
+    /**
+     * The left and right docks take the whole height, the top and bottom docks the width left between them.
+     * When the DockPane is too small, the docks shrink so that the content keeps a positive size.
+     */
+    @Override
+    protected void layoutChildren() {
+        double x = snappedLeftInset();
+        double y = snappedTopInset();
+        double width = getWidth() - x - snappedRightInset();
+        double height = getHeight() - y - snappedBottomInset();
+
+        double left = extent(Side.LEFT);
+        double right = extent(Side.RIGHT);
+        double scale = left + right > width ? width / (left + right) : 1;
+        left = snap(left * scale);
+        right = snap(right * scale);
+        double innerWidth = Math.max(0, width - left - right);
+
+        double top = extent(Side.TOP);
+        double bottom = extent(Side.BOTTOM);
+        scale = top + bottom > height ? height / (top + bottom) : 1;
+        top = snap(top * scale);
+        bottom = snap(bottom * scale);
+        double innerHeight = Math.max(0, height - top - bottom);
+
+        layoutDock(Side.LEFT, x, y, left, height);
+        layoutDock(Side.RIGHT, x + width - right, y, right, height);
+        layoutDock(Side.TOP, x + left, y, innerWidth, top);
+        layoutDock(Side.BOTTOM, x + left, y + height - bottom, innerWidth, bottom);
+        if(content != null && content.isManaged())
+            content.resizeRelocate(x + left, y + top, innerWidth, innerHeight);
+    }
+
+    /**
+     * Lay out the TabPane and the divider of a side in the given area
+     */
+    private void layoutDock(Side side, double x, double y, double width, double height){
+        Dock dock = docks.get(side);
+        if(dock == null)
+            return;
+        boolean horizontal = side == Side.LEFT || side == Side.RIGHT;
+        double divider = Math.min(dividerSize, horizontal ? width : height);
+        switch (side){
+            case LEFT:
+                dock.tabPane.resizeRelocate(x, y, width - divider, height);
+                dock.divider.resizeRelocate(x + width - divider, y, divider, height);
+                break;
+            case RIGHT:
+                dock.divider.resizeRelocate(x, y, divider, height);
+                dock.tabPane.resizeRelocate(x + divider, y, width - divider, height);
+                break;
+            case TOP:
+                dock.tabPane.resizeRelocate(x, y, width, height - divider);
+                dock.divider.resizeRelocate(x, y + height - divider, width, divider);
+                break;
+            case BOTTOM:
+                dock.divider.resizeRelocate(x, y, width, divider);
+                dock.tabPane.resizeRelocate(x, y + divider, width, height - divider);
+                break;
+        }
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        return snappedLeftInset() + snappedRightInset() + minExtent(Side.LEFT) + minExtent(Side.RIGHT);
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return snappedTopInset() + snappedBottomInset() + minExtent(Side.TOP) + minExtent(Side.BOTTOM);
+    }
+
+    private double minExtent(Side side){
+        Dock dock = docks.get(side);
+        return dock == null ? 0 : collapsedSize(dock) + dividerSize;
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        double contentWidth = content == null ? 0 : content.prefWidth(-1);
+        return snappedLeftInset() + snappedRightInset() + extent(Side.LEFT) + extent(Side.RIGHT) + contentWidth;
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        double contentHeight = content == null ? 0 : content.prefHeight(-1);
+        return snappedTopInset() + snappedBottomInset() + extent(Side.TOP) + extent(Side.BOTTOM) + contentHeight;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * DOCK                                                                                                            *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The TabPane and the divider of one side
+     */
+    private final class Dock {
+
+        private final Side side;
+
+        private final TabPane tabPane;
+
+        private final Region divider;
+
+        /**
+         * The size of the TabPane, kept when it is collapsed
+         */
+        private final SplitTabPosition position;
+
+        private SplitTab selectedTab;
+
+        /**
+         * The header area of the TabPane, looked up once its skin is created
+         */
+        private Node headerArea;
+
+        /**
+         * The distance between the mouse and the divider when the drag started
+         */
+        private double dragOffset;
+
+        Dock(Side side){
+            this.side = side;
+            position = new SplitTabPosition(side);
+            position.setWidthThreshold(sizeThreshold);
+            boolean horizontal = side == Side.LEFT || side == Side.RIGHT;
+            tabPane = new TabPane();
+            tabPane.setSide(side);
+            tabPane.setRotateGraphic(true);
+            tabPane.pseudoClassStateChanged(COLLAPSED_PSEUDOCLASS_STATE, true);
+            tabPane.skinProperty().addListener(observable -> headerArea = tabPane.lookup(".tab-header-area"));
+            divider = new Region();
+            divider.getStyleClass().add("dock-divider");
+            divider.pseudoClassStateChanged(HORIZONTAL_PSEUDOCLASS_STATE, horizontal);
+            divider.pseudoClassStateChanged(VERTICAL_PSEUDOCLASS_STATE, !horizontal);
+            divider.setCursor(horizontal ? Cursor.H_RESIZE : Cursor.V_RESIZE);
+            divider.setOnMousePressed(this::dividerPressed);
+            divider.setOnMouseDragged(this::dividerDragged);
+            getChildren().addAll(tabPane, divider);
+        }
+
+        /**
+         * Same behaviour as the SplitTabPane : clicking the selected tab collapses or shows the TabPane
+         */
+        private void tabSelection(SplitTab clickedTab){
+            if(selectedTab == clickedTab){
+                setCollapsed(!position.isHidden());
+            } else {
+                tabPane.getSelectionModel().select(clickedTab);
+                selectedTab = clickedTab;
+                setCollapsed(false);
+            }
+        }
+
+        private void setCollapsed(boolean collapsed){
+            if(position.isHidden() == collapsed)
+                return;
+            position.setHidden(collapsed);
+            tabPane.pseudoClassStateChanged(COLLAPSED_PSEUDOCLASS_STATE, collapsed);
+            requestLayout();
+        }
+
+        private void dividerPressed(MouseEvent event){
+            if(event.getButton() != MouseButton.PRIMARY)
+                return;
+            dragOffset = size(event) - (position.isHidden() ? collapsedSize(this) : position.getSavedWidth());
+            event.consume();
+        }
+
+        /**
+         * Resize the TabPane, below the threshold it is collapsed and keeps its last size
+         */
+        private void dividerDragged(MouseEvent event){
+            if(!event.isPrimaryButtonDown())
+                return;
+            position.resize(Math.max(0, size(event) - dragOffset));
+            tabPane.pseudoClassStateChanged(COLLAPSED_PSEUDOCLASS_STATE, position.isHidden());
+            requestLayout();
+            event.consume();
+        }
+
+        /**
+         * @return The distance between the mouse and the edge of the DockPane on the side of the dock
+         */
+        private double size(MouseEvent event){
+            Point2D mouse = sceneToLocal(event.getSceneX(), event.getSceneY());
+            switch (side){
+                case LEFT:
+                    return mouse.getX() - snappedLeftInset();
+                case RIGHT:
+                    return getWidth() - snappedRightInset() - mouse.getX();
+                case TOP:
+                    return mouse.getY() - snappedTopInset();
+                case BOTTOM:
+                default:
+                    return getHeight() - snappedBottomInset() - mouse.getY();
+            }
+        }
+    }
+}
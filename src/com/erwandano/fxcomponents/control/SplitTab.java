@@ -6,8 +6,14 @@ import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tab;
 
+import java.util.function.Supplier;
+
 /**
  * A Tab inside a SplitTabPane
+ *
+ * The content of the tab can be created by a factory the first time the tab is selected instead of being built
+ * with the tab. A SplitTabPane with a maximum number of loaded tabs discards the content of the least recently
+ * used tabs, a StateHandler can save the state of the content before and restore it once created again.
  */
 public class SplitTab extends Tab{
 
@@ -89,5 +95,93 @@ public class SplitTab extends Tab{
         }
     }
 
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * LAZY CONTENT                                                                                                    *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * Creates the content of the tab when it is needed
+     */
+    private Supplier<? extends Node> contentFactory;
+
+    public Supplier<? extends Node> getContentFactory() {
+        return contentFactory;
+    }
+
+    /**
+     * Create the content with the given factory the first time the tab is selected.
+     * The content is then created again each time it is needed after being unloaded.
+     */
+    public void setContentFactory(Supplier<? extends Node> contentFactory) {
+        this.contentFactory = contentFactory;
+    }
 
+    /**
+     * Saves and restores the state of the content when it is unloaded and created again
+     */
+    private StateHandler stateHandler;
+
+    public StateHandler getStateHandler() {
+        return stateHandler;
+    }
+
+    public void setStateHandler(StateHandler stateHandler) {
+        this.stateHandler = stateHandler;
+    }
+
+    /**
+     * The state saved when the content was unloaded
+     */
+    private Object savedState;
+
+    /**
+     * @return True if the content can be unloaded and created again by the factory
+     */
+    public boolean isUnloadable() {
+        return contentFactory != null && getContent() != null;
+    }
+
+    /**
+     * Create the content with the factory if it is not loaded, and restore its saved state
+     */
+    public void loadContent(){
+        if(getContent() != null || contentFactory == null)
+            return;
+        Node content = contentFactory.get();
+        if(stateHandler != null && savedState != null)
+            stateHandler.restore(content, savedState);
+        savedState = null;
+        setContent(content);
+    }
+
+    /**
+     * Save the state of the content and discard it, it will be created again by the factory
+     */
+    public void unloadContent(){
+        if(!isUnloadable())
+            return;
+        if(stateHandler != null)
+            savedState = stateHandler.save(getContent());
+        setContent(null);
+    }
+
+    /**
+     * Saves the state of a content about to be discarded and restores it on the new content
+     */
+    public interface StateHandler {
+
+        /**
+         * @param content   The content about to be discarded
+         * @return          The state to restore, or null
+         */
+        Object save(Node content);
+
+        /**
+         * @param content   The content created by the factory
+         * @param state     The state returned by save()
+         */
+        void restore(Node content, Object state);
+    }
 }
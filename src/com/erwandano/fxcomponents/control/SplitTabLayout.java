@@ -0,0 +1,118 @@
+package com.erwandano.fxcomponents.control;
+
+import javafx.geometry.Side;
+
+import java.io.Serializable;
+
+/**
+ * The layout of a SplitTabPane : the side of the tabs, the saved size of the tabPane, the selected tab and
+ * whether the tabPane is collapsed.
+ *
+ * A layout is captured with {@link SplitTabPane#getLayoutState()} and applied in one step with
+ * {@link SplitTabPane#setLayoutState(SplitTabLayout)}, preferably before the SplitTabPane is first displayed.
+ * It can be serialized, or stored as a short string with {@link #toString()} and read back with
+ * {@link #parse(String)}, e.g. "LEFT;300.0;0.25;2;false".
+ */
+public final class SplitTabLayout implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final char SEPARATOR = ';';
+
+    private final Side side;
+
+    private final double savedWidth;
+
+    private final double savedPosition;
+
+    private final int selectedIndex;
+
+    private final boolean hidden;
+
+    /**
+     * @param side          The side of the tabs
+     * @param savedWidth    The width (or height) of the tabPane when it is shown
+     * @param savedPosition The divider position when the tabPane is shown
+     * @param selectedIndex The index of the selected tab, -1 if there is none
+     * @param hidden        True if the tabPane is collapsed
+     */
+    public SplitTabLayout(Side side, double savedWidth, double savedPosition, int selectedIndex, boolean hidden){
+        if(side == null)
+            throw new IllegalArgumentException("The side of a SplitTabLayout cannot be null");
+        this.side = side;
+        this.savedWidth = savedWidth;
+        this.savedPosition = savedPosition;
+        this.selectedIndex = selectedIndex;
+        this.hidden = hidden;
+    }
+
+    public Side getSide() {
+        return side;
+    }
+
+    public double getSavedWidth() {
+        return savedWidth;
+    }
+
+    public double getSavedPosition() {
+        return savedPosition;
+    }
+
+    public int getSelectedIndex() {
+        return selectedIndex;
+    }
+
+    public boolean isHidden() {
+        return hidden;
+    }
+
+    /**
+     * Read a layout written by toString()
+     * @param value The layout, e.g. "LEFT;300.0;0.25;2;false"
+     * @return      The layout
+     * @throws IllegalArgumentException If the value is not a layout
+     */
+    public static SplitTabLayout parse(String value){
+        String[] fields = value == null ? new String[0] : value.split(String.valueOf(SEPARATOR));
+        if(fields.length != 5)
+            throw new IllegalArgumentException("Not a SplitTabLayout : " + value);
+        try {
+            return new SplitTabLayout(
+                    Side.valueOf(fields[0]),
+                    Double.parseDouble(fields[1]),
+                    Double.parseDouble(fields[2]),
+                    Integer.parseInt(fields[3]),
+                    Boolean.parseBoolean(fields[4]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Not a SplitTabLayout : " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return side.name() + SEPARATOR + savedWidth + SEPARATOR + savedPosition + SEPARATOR + selectedIndex
+                + SEPARATOR + hidden;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SplitTabLayout)) return false;
+        SplitTabLayout layout = (SplitTabLayout) o;
+        return side == layout.side
+                && Double.compare(savedWidth, layout.savedWidth) == 0
+                && Double.compare(savedPosition, layout.savedPosition) == 0
+                && selectedIndex == layout.selectedIndex
+                && hidden == layout.hidden;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = side.hashCode();
+        result = 31 * result + Double.hashCode(savedWidth);
+        result = 31 * result + Double.hashCode(savedPosition);
+        result = 31 * result + selectedIndex;
+        result = 31 * result + (hidden ? 1 : 0);
+        return result;
+    }
+}
@@ -1,33 +1,82 @@
 package com.erwandano.fxcomponents.control;
 
+import com.erwandano.fxcomponents.metrics.ComponentEvent;
+import com.erwandano.fxcomponents.metrics.ComponentEvents;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.IntegerPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.css.PseudoClass;
+import javafx.geometry.Bounds;
+import javafx.geometry.Insets;
 import javafx.geometry.Orientation;
+import javafx.geometry.Point2D;
 import javafx.geometry.Side;
 import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
 import javafx.scene.control.SplitPane;
+import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * A TabPane inside a SplitPane
  * Whenever the user clicks on a SplitTab, if the SplitTab is visible it will hide the TabPane by moving the
  * SplitPane divider.
+ *
+ * The content of a SplitTab with a content factory is only created when the tab is selected. With
+ * setMaxLoadedTabs(), only the contents of the most recently selected tabs are kept.
+ *
+ * With setAnimated(true), collapsing and showing the tabPane slide a snapshot of it instead of its live content.
+ * With setGhostDrag(true), dragging the divider moves a lightweight ghost and the contents are laid out on release.
+ *
+ * While the tabPane is collapsed, the SplitTabPane and the label of the selected tab have the :hidden pseudo-class.
+ *
+ * The SplitTabPane only holds the SplitPane, which holds the tabPane and the content, if any. The SplitPane stays
+ * as it is returned by getSplitPane().
  */
 public class SplitTabPane extends AnchorPane {
 
     private static final double DEFAULT_TABPANE_MIN_HEIGHT = 0;
 
+    private static final Duration DEFAULT_ANIMATION_DURATION = Duration.millis(200);
+
     private static final PseudoClass TOP_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("top");
     private static final PseudoClass BOTTOM_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("bottom");
     private static final PseudoClass LEFT_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("left");
     private static final PseudoClass RIGHT_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("right");
+    private static final PseudoClass HIDDEN_PSEUDOCLASS_STATE = PseudoClass.getPseudoClass("hidden");
 
     /*******************************************************************************************************************
      *                                                                                                                 *
@@ -39,25 +88,36 @@ public class SplitTabPane extends AnchorPane {
         tabPane = new TabPane();
         tabPane.setRotateGraphic(true);
         tabPane.sideProperty().bindBidirectional(this.sideProperty());
-        tabs.addListener(new ListChangeListener<SplitTab>() {
-            @Override
-            public void onChanged(Change<? extends SplitTab> c) {
-                c.next();
-                c.getAddedSubList().forEach(SplitTabPane.this::addTab);
-                c.getRemoved().forEach(SplitTabPane.this::removeTab);
+        tabPane.getSelectionModel().selectedItemProperty().addListener((observable, oldTab, newTab) -> {
+            if(ComponentMetrics.ENABLED) {
+                ComponentMetrics.listener(Component.SPLIT_TAB_PANE);
+                tabSwitchStart = System.nanoTime();
+            }
+            if(ComponentEvents.ENABLED) {
+                /* A selection replaced before any layout never displayed its content, its event is dropped */
+                tabSelectionEvent = ComponentEvents.tabSelection(newTab instanceof SplitTab
+                        ? ((SplitTab) newTab).getTabText() : newTab == null ? null : newTab.getText());
+                if(tabSelectionEvent != null)
+                    tabSelectionEvent.begin();
             }
+            if(newTab instanceof SplitTab)
+                tabUsed((SplitTab) newTab);
         });
-        tabPane.minHeightProperty().bind(this.tabPaneMinHeightProperty());
-        tabPane.minWidthProperty().bind(this.tabPaneMinWidthProperty());
-        content = new AnchorPane();
-        splitPane = new SplitPane(new AnchorPane(), new AnchorPane());
+        /* The tabPane minimum sizes are only bound once their properties are created */
+        tabPane.setMinHeight(DEFAULT_TABPANE_MIN_HEIGHT);
+        tabPane.setMinWidth(DEFAULT_TABPANE_MIN_HEIGHT);
+        splitPane = new SplitPane(tabPane);
         position = new SplitTabPosition(splitPane, tabPane);
+        splitPane.addEventFilter(MouseEvent.MOUSE_PRESSED, this::dividerPressed);
+        splitPane.addEventFilter(MouseEvent.MOUSE_DRAGGED, this::dividerDragged);
+        splitPane.addEventFilter(MouseEvent.MOUSE_RELEASED, this::dividerReleased);
         setSide(tabPane.getSide());
         this.getChildren().add(splitPane);
         AnchorPane.setTopAnchor(splitPane, 0d);
         AnchorPane.setBottomAnchor(splitPane, 0d);
         AnchorPane.setLeftAnchor(splitPane, 0d);
         AnchorPane.setRightAnchor(splitPane, 0d);
+        getStyleClass().add("split-tab-pane");
         collapseTabPane();
     }
 
@@ -80,7 +140,7 @@ public class SplitTabPane extends AnchorPane {
     }
 
     /**
-     * The content of the SplitPane
+     * The content of the SplitPane, null until it is set. Without content, the SplitPane only holds the tabPane.
      */
     private Node content;
 
@@ -90,16 +150,32 @@ public class SplitTabPane extends AnchorPane {
 
     public void setContent(Node content) {
         this.content = content;
-        switch (tabPane.getSide()){
-            case TOP:
-            case LEFT:
-                splitPane.getItems().setAll(tabPane, content);
-                break;
-            case RIGHT:
-            case BOTTOM:
-                splitPane.getItems().setAll(content, tabPane);
-                break;
+        arrangeItems();
+    }
+
+    /**
+     * Put the tabPane and the content in the SplitPane in the order of the side, the items are only replaced if
+     * they change
+     */
+    private void arrangeItems(){
+        List<Node> items;
+        if(content == null){
+            items = Collections.singletonList(tabPane);
+        } else {
+            switch (getSide()){
+                case RIGHT:
+                case BOTTOM:
+                    items = Arrays.asList(content, tabPane);
+                    break;
+                case TOP:
+                case LEFT:
+                default:
+                    items = Arrays.asList(tabPane, content);
+                    break;
+            }
         }
+        if(!splitPane.getItems().equals(items))
+            splitPane.getItems().setAll(items);
     }
 
     /**
@@ -121,6 +197,44 @@ public class SplitTabPane extends AnchorPane {
      */
     private SplitTabPosition position;
 
+    /**
+     * The time the selected tab changed, until the SplitTabPane is laid out. Only set when the metrics are enabled.
+     */
+    private long tabSwitchStart;
+
+    /**
+     * The event of the last tab selection, committed when the SplitTabPane is laid out
+     */
+    private ComponentEvent tabSelectionEvent;
+
+    /**
+     * Move the divider for the new size of the SplitPane before the SplitPane is laid out
+     */
+    @Override
+    protected void layoutChildren() {
+        super.layoutChildren();
+        position.layoutRefresh();
+        if(ComponentMetrics.ENABLED || ComponentEvents.ENABLED)
+            laidOut();
+    }
+
+    /**
+     * Record the time taken by the last tab switch to be laid out
+     */
+    private void laidOut(){
+        if(ComponentMetrics.ENABLED){
+            ComponentMetrics.layout(Component.SPLIT_TAB_PANE);
+            if(tabSwitchStart != 0){
+                ComponentMetrics.TAB_SWITCH.recordSince(tabSwitchStart);
+                tabSwitchStart = 0;
+            }
+        }
+        if(tabSelectionEvent != null){
+            tabSelectionEvent.commit();
+            tabSelectionEvent = null;
+        }
+    }
+
     /*******************************************************************************************************************
      *                                                                                                                 *
      * GETTERS AND SETTERS                                                                                             *
@@ -133,40 +247,24 @@ public class SplitTabPane extends AnchorPane {
      */
     public void setSide(Side side){
         sideProperty().set(side);
-        switch(side){
-            case LEFT:
-                splitPane.getItems().setAll(tabPane, content);
-                splitPane.setOrientation(Orientation.HORIZONTAL);
-                break;
-            case RIGHT:
-                splitPane.getItems().setAll(content, tabPane);
-                splitPane.setOrientation(Orientation.HORIZONTAL);
-                break;
-            case TOP:
-                splitPane.getItems().setAll(tabPane, content);
-                splitPane.setOrientation(Orientation.VERTICAL);
-                break;
-            case BOTTOM:
-                splitPane.getItems().setAll(content, tabPane);
-                splitPane.setOrientation(Orientation.VERTICAL);
-                break;
-        }
+        arrangeItems();
+        splitPane.setOrientation(side == Side.LEFT || side == Side.RIGHT ? Orientation.HORIZONTAL : Orientation.VERTICAL);
         tabPane.getTabs().forEach(tab -> {
             SplitTab splitTab = (SplitTab) tab;
             splitTab.setSide(side);
         });
         position.setSide(side);
-        collapseTabPane();
+        stopTransition();
+        setHiddenState(true);
+        splitPane.setDividerPositions(position.getHiddenPosition());
     }
 
     /**
      * Add a tab
      */
     public boolean addTab(SplitTab splitTab){
-        splitTab.setSide(tabPane.getSide());
-        boolean result = tabPane.getTabs().add(splitTab);
-        splitTab.getLabel().setOnMouseClicked(event -> tabSelection(splitTab));
-        return  result;
+        register(splitTab);
+        return tabPane.getTabs().add(splitTab);
     }
 
     /**
@@ -175,9 +273,45 @@ public class SplitTabPane extends AnchorPane {
      * @param splitTab  SplitTab
      */
     public void addTab(int index, SplitTab splitTab){
-        splitTab.setSide(tabPane.getSide());
+        register(splitTab);
         tabPane.getTabs().add(index, splitTab);
-        splitTab.getLabel().setOnMouseClicked(event -> tabSelection(splitTab));
+    }
+
+    /**
+     * Add several tabs in a single change of the TabPane, its header is laid out once
+     * @param splitTabs The tabs to add
+     */
+    public void addTabs(SplitTab... splitTabs){
+        addTabs(Arrays.asList(splitTabs));
+    }
+
+    public void addTabs(Collection<? extends SplitTab> splitTabs){
+        splitTabs.forEach(this::register);
+        tabPane.getTabs().addAll(splitTabs);
+    }
+
+    /**
+     * Replace the tabs of the TabPane, its header is laid out once.
+     * The tabs that are kept are not removed and added back unless their order changes.
+     * @param splitTabs The new tabs, in order
+     */
+    public void setTabs(SplitTab... splitTabs){
+        setTabs(Arrays.asList(splitTabs));
+    }
+
+    public void setTabs(Collection<? extends SplitTab> splitTabs){
+        Set<Tab> kept = new HashSet<>(splitTabs);
+        Set<Tab> current = new HashSet<>(tabPane.getTabs());
+        for(Tab tab : tabPane.getTabs()){
+            if(!kept.contains(tab))
+                unregister((SplitTab) tab);
+        }
+        for(SplitTab splitTab : splitTabs){
+            if(!current.contains(splitTab))
+                register(splitTab);
+        }
+        if(applyTabs(new ArrayList<>(splitTabs)) && ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.SPLIT_TAB_PANE);
     }
 
     /**
@@ -187,7 +321,8 @@ public class SplitTabPane extends AnchorPane {
      */
     public boolean removeTab(SplitTab splitTab){
         boolean result = tabPane.getTabs().remove(splitTab);
-        splitTab.getLabel().setOnMouseClicked(null);
+        if(result)
+            unregister(splitTab);
         return result;
     }
 
@@ -198,7 +333,7 @@ public class SplitTabPane extends AnchorPane {
      */
     public SplitTab removeTab(int index){
         SplitTab splitTab = (SplitTab) tabPane.getTabs().remove(index);
-        splitTab.getLabel().setOnMouseClicked(null);
+        unregister(splitTab);
         return splitTab;
     }
 
@@ -208,7 +343,115 @@ public class SplitTabPane extends AnchorPane {
      * @return          If the removal was successful or not
      */
     public boolean removeAllTabs(SplitTab...elements){
-        return tabPane.getTabs().removeAll(elements);
+        return updateTabs(new HashSet<>(Arrays.asList(elements)), Collections.<SplitTab>emptyList());
+    }
+
+    /**
+     * Remove and add tabs, the headers of the other tabs are kept by the TabPane
+     * @param removed   The tabs to remove
+     * @param added     The tabs to add at the end, unless they are already displayed
+     * @return          True if the tabs of the TabPane changed
+     */
+    private boolean updateTabs(Set<? extends Tab> removed, List<? extends SplitTab> added){
+        List<Tab> current = tabPane.getTabs();
+        List<Tab> result = new ArrayList<>(current.size() + added.size());
+        Set<Tab> displayed = new HashSet<>();
+        for(Tab tab : current){
+            if(!removed.contains(tab)){
+                result.add(tab);
+                displayed.add(tab);
+            }
+        }
+        for(SplitTab splitTab : added){
+            if(displayed.add(splitTab)){
+                register(splitTab);
+                result.add(splitTab);
+            }
+        }
+        for(Tab tab : current){
+            if(!displayed.contains(tab))
+                unregister((SplitTab) tab);
+        }
+        if(!applyTabs(result))
+            return false;
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.SPLIT_TAB_PANE);
+        return true;
+    }
+
+    /**
+     * Bring the tabs of the TabPane to the given list by removing and inserting only the sub-ranges that differ,
+     * so that the TabPane skin keeps the headers of the other tabs. The list is only replaced with setAll() when
+     * the tabs that are kept change order.
+     * @param target    The tabs to display, in order
+     * @return          True if the tabs of the TabPane changed
+     */
+    private boolean applyTabs(List<? extends Tab> target){
+        ObservableList<Tab> tabs = tabPane.getTabs();
+        if(tabs.equals(target))
+            return false;
+        Set<Tab> targetSet = new HashSet<>(target);
+        Set<Tab> currentSet = new HashSet<>(tabs);
+        Set<Tab> dropped = new HashSet<>();
+        List<Tab> remaining = new ArrayList<>(tabs.size());
+        for(Tab tab : tabs){
+            if(targetSet.contains(tab))
+                remaining.add(tab);
+            else
+                dropped.add(tab);
+        }
+        List<Tab> kept = new ArrayList<>(remaining.size());
+        for(Tab tab : target){
+            if(currentSet.contains(tab))
+                kept.add(tab);
+        }
+        if(!kept.equals(remaining)){
+            tabs.setAll(target);
+            return true;
+        }
+        if(!dropped.isEmpty())
+            tabs.removeAll(dropped);
+        /* The kept tabs are in order, insert each run of new tabs where it belongs */
+        int i = 0;
+        while(i < target.size()){
+            if(i < tabs.size() && tabs.get(i) == target.get(i)){
+                i++;
+                continue;
+            }
+            int end = i;
+            while(end < target.size() && !currentSet.contains(target.get(end)))
+                end++;
+            if(end == i){
+                /* Only happens if the target holds a tab twice */
+                tabs.setAll(target);
+                return true;
+            }
+            tabs.addAll(i, target.subList(i, end));
+            i = end;
+        }
+        return true;
+    }
+
+    /**
+     * Prepare a tab to be displayed by the TabPane
+     */
+    private void register(SplitTab splitTab){
+        splitTab.setSide(tabPane.getSide());
+        splitTab.getLabel().setOnMouseClicked(event -> tabSelection(splitTab));
+    }
+
+    /**
+     * Release a tab removed from the TabPane
+     */
+    private void unregister(SplitTab splitTab){
+        splitTab.getLabel().setOnMouseClicked(null);
+        loadedTabs.remove(splitTab);
+        if(selectedTab == splitTab)
+            selectedTab = null;
+        if(hiddenLabel == splitTab.getLabel()){
+            hiddenLabel.pseudoClassStateChanged(HIDDEN_PSEUDOCLASS_STATE, false);
+            hiddenLabel = null;
+        }
     }
 
 
@@ -228,38 +471,482 @@ public class SplitTabPane extends AnchorPane {
         //The user clicked on an already selected tab to hide or show the left menu
         if(selectedTab == clickedTab){
             if(position.isHidden()) {
-                tabPane.getSelectionModel().getSelectedItem().getStyleClass().remove("hidden");
                 showTabPane();
             } else {
-                tabPane.getSelectionModel().getSelectedItem().getStyleClass().add("hidden");
                 collapseTabPane();
             }
         } else {
             //The user wants to change tabs
-            tabPane.getSelectionModel().getSelectedItem().getStyleClass().remove("hidden");
             tabPane.getSelectionModel().select(clickedTab);
             selectedTab = clickedTab;
             showTabPane();
         }
     }
 
+    /**
+     * The label holding the :hidden pseudo-class, the label of the selected tab while the tabPane is collapsed
+     */
+    private Node hiddenLabel;
 
+    /**
+     * Update the :hidden pseudo-class of the SplitTabPane and of the selected tab.
+     * Unlike a style class, a pseudo-class change does not reapply CSS to the whole tab.
+     */
+    private void setHiddenState(boolean hidden){
+        if(ComponentMetrics.ENABLED && hidden != getPseudoClassStates().contains(HIDDEN_PSEUDOCLASS_STATE))
+            ComponentMetrics.css(Component.SPLIT_TAB_PANE);
+        pseudoClassStateChanged(HIDDEN_PSEUDOCLASS_STATE, hidden);
+        Tab selected = tabPane.getSelectionModel().getSelectedItem();
+        Node label = hidden && selected instanceof SplitTab ? ((SplitTab) selected).getLabel() : null;
+        if(label != hiddenLabel){
+            if(hiddenLabel != null)
+                hiddenLabel.pseudoClassStateChanged(HIDDEN_PSEUDOCLASS_STATE, false);
+            if(label != null)
+                label.pseudoClassStateChanged(HIDDEN_PSEUDOCLASS_STATE, true);
+            hiddenLabel = label;
+        }
+    }
 
     /**
-     * Hide the tabPane
+     * Hide the tabPane, with a transition if the SplitTabPane is animated
      */
     public void collapseTabPane() {
-        splitPane.setDividerPositions(position.getHiddenPosition());
+        stopTransition();
+        if(ComponentEvents.ENABLED){
+            visibilityEvent = ComponentEvents.tabPaneVisibility(true, isAnimated());
+            if(visibilityEvent != null)
+                visibilityEvent.begin();
+        }
+        setHiddenState(true);
+        moveDivider(position.getHiddenPosition(), false);
+        if(transition == null)
+            commitVisibilityEvent();
     }
 
     /**
-     * Show the tabPane
+     * Show the tabPane, with a transition if the SplitTabPane is animated
      */
     public void showTabPane() {
-        splitPane.setDividerPositions(position.getSavedPosition());
+        stopTransition();
+        if(ComponentEvents.ENABLED){
+            visibilityEvent = ComponentEvents.tabPaneVisibility(false, isAnimated());
+            if(visibilityEvent != null)
+                visibilityEvent.begin();
+        }
+        setHiddenState(false);
+        moveDivider(position.getSavedPosition(), true);
+        if(transition == null)
+            commitVisibilityEvent();
+    }
+
+    /**
+     * The event of the running collapse or expansion, committed once its transition ends
+     */
+    private ComponentEvent visibilityEvent;
+
+    private void commitVisibilityEvent(){
+        if(visibilityEvent != null){
+            visibilityEvent.commit();
+            visibilityEvent = null;
+        }
+    }
+
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * LAYOUT STATE                                                                                                    *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * @return The current side, tabPane size, selected tab and collapsed state, to be restored with setLayoutState()
+     */
+    public SplitTabLayout getLayoutState(){
+        return new SplitTabLayout(getSide(), position.getSavedWidth(), position.getSavedPosition(),
+                tabPane.getSelectionModel().getSelectedIndex(), position.isHidden());
+    }
+
+    /**
+     * Apply a layout in one step : the divider is moved once and the SplitPane items are only rearranged if the
+     * side changes. Call it before the SplitTabPane is displayed to avoid any intermediate layout.
+     * The selected index is ignored if there is no tab at that index.
+     */
+    public void setLayoutState(SplitTabLayout layout){
+        stopTransition();
+        if(layout.getSide() != getSide())
+            setSide(layout.getSide());
+        position.restore(layout.getSavedWidth(), layout.getSavedPosition());
+        int index = layout.getSelectedIndex();
+        if(index >= 0 && index < tabPane.getTabs().size()){
+            tabPane.getSelectionModel().select(index);
+            selectedTab = (SplitTab) tabPane.getTabs().get(index);
+        }
+        setHiddenState(layout.isHidden());
+        splitPane.setDividerPositions(layout.isHidden() ? position.getHiddenPosition() : position.getSavedPosition());
     }
 
 
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * ANIMATION                                                                                                       *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The running transition, null if there is none
+     */
+    private Timeline transition;
+
+    /**
+     * The snapshot of the tabPane moved during the transition
+     */
+    private ImageView transitionView;
+
+    /**
+     * Move the divider to its new position, then slide a snapshot of the tabPane in or out.
+     * The divider is moved at once so the contents are laid out a single time, only the snapshot moves during the
+     * transition.
+     */
+    private void moveDivider(double dividerPosition, boolean show){
+        stopTransition();
+        boolean animate = isAnimated() && getScene() != null && getWidth() > 0 && getHeight() > 0;
+        if(!animate){
+            splitPane.setDividerPositions(dividerPosition);
+            return;
+        }
+        if(show){
+            splitPane.setDividerPositions(dividerPosition);
+            /* The tabPane must be laid out at its new size to be captured */
+            applyCss();
+            layout();
+        }
+        Bounds bounds = sceneToLocal(tabPane.localToScene(tabPane.getLayoutBounds()));
+        if(bounds.getWidth() <= 0 || bounds.getHeight() <= 0){
+            splitPane.setDividerPositions(dividerPosition);
+            return;
+        }
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        WritableImage image = tabPane.snapshot(parameters, null);
+        if(!show)
+            splitPane.setDividerPositions(dividerPosition);
+
+        transitionView = new ImageView(image);
+        transitionView.setManaged(false);
+        transitionView.relocate(bounds.getMinX(), bounds.getMinY());
+        transitionView.setClip(new Rectangle(0, 0, bounds.getWidth(), bounds.getHeight()));
+        getChildren().add(transitionView);
+        if(show)
+            tabPane.setVisible(false);
+
+        /* The offset moving the snapshot out of the tabPane bounds, toward the side of the tabs */
+        DoubleProperty translate;
+        double hiddenOffset;
+        switch (getSide()){
+            case LEFT:
+                translate = transitionView.translateXProperty();
+                hiddenOffset = -bounds.getWidth();
+                break;
+            case RIGHT:
+                translate = transitionView.translateXProperty();
+                hiddenOffset = bounds.getWidth();
+                break;
+            case BOTTOM:
+                translate = transitionView.translateYProperty();
+                hiddenOffset = bounds.getHeight();
+                break;
+            case TOP:
+            default:
+                translate = transitionView.translateYProperty();
+                hiddenOffset = -bounds.getHeight();
+                break;
+        }
+        /* The clip moves with the image, translate it back so that it stays on the tabPane bounds */
+        Rectangle clip = (Rectangle) transitionView.getClip();
+        DoubleProperty clipTranslate = translate == transitionView.translateXProperty()
+                ? clip.translateXProperty() : clip.translateYProperty();
+        clipTranslate.bind(translate.negate());
+
+        double from = show ? hiddenOffset : 0;
+        double to = show ? 0 : hiddenOffset;
+        translate.set(from);
+        transition = new Timeline(
+                new KeyFrame(Duration.ZERO, new KeyValue(translate, from)),
+                new KeyFrame(getAnimationDuration(), new KeyValue(translate, to, Interpolator.EASE_BOTH)));
+        transition.setOnFinished(event -> stopTransition());
+        transition.play();
+    }
+
+    /**
+     * End the running transition, the live tabPane is displayed again
+     */
+    private void stopTransition(){
+        if(transition != null){
+            transition.setOnFinished(null);
+            transition.stop();
+            transition = null;
+            commitVisibilityEvent();
+        }
+        if(transitionView != null){
+            getChildren().remove(transitionView);
+            transitionView = null;
+            tabPane.setVisible(true);
+        }
+    }
+
+    private BooleanProperty animated;
+
+    /**
+     * Indicates if the tabPane is collapsed and shown with a transition.
+     * Set the duration of the transition with setAnimationDuration().
+     */
+    public final boolean isAnimated() {
+        return animated != null && animated.get();
+    }
+
+    public final void setAnimated(boolean value) {
+        animatedProperty().set(value);
+    }
+
+    public final BooleanProperty animatedProperty() {
+        if (animated == null) {
+            animated = new SimpleBooleanProperty(this, "animated", false);
+        }
+        return animated;
+    }
+
+    /**
+     * The duration of the collapse and show transitions
+     */
+    private Duration animationDuration = DEFAULT_ANIMATION_DURATION;
+
+    public Duration getAnimationDuration() {
+        return animationDuration;
+    }
+
+    public void setAnimationDuration(Duration animationDuration) {
+        this.animationDuration = animationDuration;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * DIVIDER DRAG                                                                                                    *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The line following the mouse while the divider is dragged in ghost mode, null when no drag is in progress
+     */
+    private Region ghostDivider;
+
+    /**
+     * The distance between the mouse and the start of the divider when the drag started, along the divider axis
+     */
+    private double dragOffset;
+
+    /**
+     * The time the divider was last moved during the drag, in nanoseconds
+     */
+    private long lastDragMove;
+
+    private void dividerPressed(MouseEvent event){
+        if(!isGhostDrag() || event.getButton() != MouseButton.PRIMARY)
+            return;
+        Node divider = findDivider(event.getPickResult().getIntersectedNode());
+        if(divider == null)
+            return;
+        event.consume();
+        stopTransition();
+        Bounds bounds = sceneToLocal(divider.localToScene(divider.getLayoutBounds()));
+        Point2D mouse = sceneToLocal(event.getSceneX(), event.getSceneY());
+        boolean horizontal = splitPane.getOrientation() == Orientation.HORIZONTAL;
+        dragOffset = horizontal ? mouse.getX() - bounds.getMinX() : mouse.getY() - bounds.getMinY();
+        ghostDivider = new Region();
+        ghostDivider.getStyleClass().add("ghost-divider");
+        ghostDivider.setStyle("-fx-background-color: rgba(0, 0, 0, 0.3)");
+        ghostDivider.setManaged(false);
+        ghostDivider.resizeRelocate(bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight());
+        getChildren().add(ghostDivider);
+        lastDragMove = System.nanoTime();
+    }
+
+    private void dividerDragged(MouseEvent event){
+        if(ghostDivider == null)
+            return;
+        event.consume();
+        Point2D mouse = sceneToLocal(event.getSceneX(), event.getSceneY());
+        Insets insets = splitPane.getInsets();
+        if(splitPane.getOrientation() == Orientation.HORIZONTAL) {
+            double min = splitPane.getLayoutX() + insets.getLeft();
+            double max = splitPane.getLayoutX() + splitPane.getWidth() - insets.getRight() - ghostDivider.getWidth();
+            ghostDivider.relocate(clamp(mouse.getX() - dragOffset, min, max), ghostDivider.getLayoutY());
+        } else {
+            double min = splitPane.getLayoutY() + insets.getTop();
+            double max = splitPane.getLayoutY() + splitPane.getHeight() - insets.getBottom() - ghostDivider.getHeight();
+            ghostDivider.relocate(ghostDivider.getLayoutX(), clamp(mouse.getY() - dragOffset, min, max));
+        }
+        Duration interval = getGhostDragInterval();
+        if(interval.isIndefinite() || interval.isUnknown())
+            return;
+        long now = System.nanoTime();
+        if(now - lastDragMove >= interval.toMillis() * 1_000_000){
+            lastDragMove = now;
+            applyGhostPosition();
+        }
+    }
+
+    private void dividerReleased(MouseEvent event){
+        if(ghostDivider == null)
+            return;
+        event.consume();
+        applyGhostPosition();
+        getChildren().remove(ghostDivider);
+        ghostDivider = null;
+    }
+
+    /**
+     * Move the real divider where the ghost divider is, the contents are laid out again
+     */
+    private void applyGhostPosition(){
+        Insets insets = splitPane.getInsets();
+        double dividerPosition;
+        if(splitPane.getOrientation() == Orientation.HORIZONTAL) {
+            double size = splitPane.getWidth() - insets.getLeft() - insets.getRight();
+            double start = ghostDivider.getLayoutX() - splitPane.getLayoutX() - insets.getLeft();
+            dividerPosition = (start + ghostDivider.getWidth() / 2) / size;
+        } else {
+            double size = splitPane.getHeight() - insets.getTop() - insets.getBottom();
+            double start = ghostDivider.getLayoutY() - splitPane.getLayoutY() - insets.getTop();
+            dividerPosition = (start + ghostDivider.getHeight() / 2) / size;
+        }
+        splitPane.setDividerPositions(clamp(dividerPosition, 0, 1));
+    }
+
+    /**
+     * @return The divider of the SplitPane holding the given node, or null if it is not in a divider
+     */
+    private Node findDivider(Node node){
+        while(node != null && node != splitPane){
+            if(node.getStyleClass().contains("split-pane-divider"))
+                return node;
+            node = node.getParent();
+        }
+        return null;
+    }
+
+    private static double clamp(double value, double min, double max){
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private BooleanProperty ghostDrag;
+
+    /**
+     * Indicates if dragging the divider only moves a ghost divider, the real divider is moved when the mouse is
+     * released, or every ghostDragInterval while dragging, so the contents are not laid out on every mouse event.
+     */
+    public final boolean isGhostDrag() {
+        return ghostDrag != null && ghostDrag.get();
+    }
+
+    public final void setGhostDrag(boolean value) {
+        ghostDragProperty().set(value);
+    }
+
+    public final BooleanProperty ghostDragProperty() {
+        if (ghostDrag == null) {
+            ghostDrag = new SimpleBooleanProperty(this, "ghostDrag", false);
+        }
+        return ghostDrag;
+    }
+
+    /**
+     * The minimum time between two moves of the real divider while dragging in ghost mode.
+     * Duration.INDEFINITE, the default, only moves it when the mouse is released.
+     */
+    private Duration ghostDragInterval = Duration.INDEFINITE;
+
+    public Duration getGhostDragInterval() {
+        return ghostDragInterval;
+    }
+
+    public void setGhostDragInterval(Duration ghostDragInterval) {
+        this.ghostDragInterval = ghostDragInterval;
+    }
+
+    /*******************************************************************************************************************
+     *                                                                                                                 *
+     * CONTENT LOADING                                                                                                 *
+     *                                                                                                                 *
+     ******************************************************************************************************************/
+
+    /**
+     * The tabs whose content was created by their factory, least recently used first
+     */
+    private final LinkedHashSet<SplitTab> loadedTabs = new LinkedHashSet<>();
+
+    /**
+     * Load the content of a selected tab, then unload the least recently used tabs over the limit
+     */
+    private void tabUsed(SplitTab splitTab){
+        splitTab.loadContent();
+        if(splitTab.isUnloadable()){
+            loadedTabs.remove(splitTab);
+            loadedTabs.add(splitTab);
+        }
+        trimLoadedTabs();
+    }
+
+    private void trimLoadedTabs(){
+        int max = getMaxLoadedTabs();
+        if(max <= 0)
+            return;
+        Tab selected = tabPane.getSelectionModel().getSelectedItem();
+        Iterator<SplitTab> iterator = loadedTabs.iterator();
+        while(loadedTabs.size() > max && iterator.hasNext()){
+            SplitTab splitTab = iterator.next();
+            if(splitTab != selected){
+                iterator.remove();
+                splitTab.unloadContent();
+            }
+        }
+    }
+
+    private IntegerProperty maxLoadedTabs;
+
+    /**
+     * The maximum number of tabs whose content is kept once created by their factory, 0 for no limit.
+     * Tabs without a content factory always keep their content and are not counted.
+     */
+    public final int getMaxLoadedTabs() {
+        return maxLoadedTabs == null ? 0 : maxLoadedTabs.get();
+    }
+
+    public final void setMaxLoadedTabs(int value) {
+        maxLoadedTabsProperty().set(value);
+    }
+
+    public final IntegerProperty maxLoadedTabsProperty() {
+        if (maxLoadedTabs == null) {
+            maxLoadedTabs = new IntegerPropertyBase(0) {
+                @Override
+                protected void invalidated() {
+                    trimLoadedTabs();
+                }
+
+                @Override
+                public Object getBean() {
+                    return SplitTabPane.this;
+                }
+
+                @Override
+                public String getName() {
+                    return "maxLoadedTabs";
+                }
+            };
+        }
+        return maxLoadedTabs;
+    }
+
     /*******************************************************************************************************************
      *                                                                                                                 *
      * USED FOR FXML                                                                                                   *
@@ -310,7 +997,10 @@ public class SplitTabPane extends AnchorPane {
     }
 
 
-    private ObservableList<SplitTab> tabs = FXCollections.observableArrayList();
+    /**
+     * Created on the first call to getTabs(), the tabs are usually added with addTab()
+     */
+    private ObservableList<SplitTab> tabs;
 
 
     /**
@@ -324,6 +1014,21 @@ public class SplitTabPane extends AnchorPane {
      * become the first tab in the ObservableList.</p>
      */
     public final ObservableList<SplitTab> getTabs() {
+        if (tabs == null) {
+            tabs = FXCollections.observableArrayList();
+            tabs.addListener((ListChangeListener<SplitTab>) c -> {
+                /* Apply every change of a compound change to the TabPane in a single operation */
+                Set<SplitTab> removed = new HashSet<>();
+                List<SplitTab> added = new ArrayList<>();
+                while (c.next()) {
+                    if (c.wasPermutated())
+                        continue;
+                    removed.addAll(c.getRemoved());
+                    added.addAll(c.getAddedSubList());
+                }
+                updateTabs(removed, added);
+            });
+        }
         return tabs;
     }
 
@@ -365,6 +1070,7 @@ public class SplitTabPane extends AnchorPane {
                     return "tabPaneMinHeight";
                 }
             };
+            tabPane.minHeightProperty().bind(tabPaneMinHeight);
         }
         return tabPaneMinHeight;
     }
@@ -403,6 +1109,7 @@ public class SplitTabPane extends AnchorPane {
                     return "tabPaneMinWidth";
                 }
             };
+            tabPane.minWidthProperty().bind(tabPaneMinWidth);
         }
         return tabPaneMinWidth;
     }
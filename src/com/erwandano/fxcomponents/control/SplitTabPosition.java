@@ -1,18 +1,34 @@
 package com.erwandano.fxcomponents.control;
 
+import com.erwandano.fxcomponents.metrics.ComponentMetrics;
+import com.erwandano.fxcomponents.metrics.ComponentMetrics.Component;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.collections.ListChangeListener;
 import javafx.geometry.Side;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.TabPane;
 
 /**
  * Save the position of a SplitTab
+ *
+ * When the SplitPane is resized along the axis of its divider, the divider is moved to keep the width of the
+ * tabPane. The resizes are coalesced : the divider is moved once by refresh(), called by the SplitTabPane
+ * before the SplitPane is laid out. Until the SplitTabPane is first laid out, or when the SplitTabPosition is used
+ * without a SplitTabPane, the refresh is done after the current pulse instead.
+ *
+ * A SplitTabPosition can also be created without a SplitPane, for a container that lays out the tabPane itself in
+ * pixels, e.g. a side of a DockPane. Only the widths are then used : the tabPane is resized with resize(), hidden
+ * or shown with setHidden(), and its width read with getSavedWidth(). The divider positions and deltas are not
+ * meaningful in that case.
  */
 public class SplitTabPosition {
 
 
-    private static final double DEFAULT_WIDTH_THRESHOLD = 75;
-    private static final double DEFAULT_WIDTH = 300;
+    static final double DEFAULT_WIDTH_THRESHOLD = 75;
+    static final double DEFAULT_WIDTH = 300;
 
 
     public SplitTabPosition(SplitPane splitPane, TabPane tabPane){
@@ -21,13 +37,25 @@ public class SplitTabPosition {
         this.savedPosition = 0;
         initPositionListener();
         initSizeListener();
-        splitPane.widthProperty().addListener(sizeListener);
-        splitPane.heightProperty().addListener(sizeListener);
+        splitPane.getDividers().addListener((ListChangeListener<SplitPane.Divider>) c -> watchDivider());
+        watchDivider();
         setSide(tabPane.getSide());
         setDefaultWidth(DEFAULT_WIDTH);
         setWidthThreshold(DEFAULT_WIDTH_THRESHOLD);
     }
 
+    /**
+     * Create a position that is not bound to a SplitPane, the tabPane is hidden and has the default width
+     * @param side  The side of the tabPane
+     */
+    public SplitTabPosition(Side side){
+        this.hidden = true;
+        setSide(side);
+        setDefaultWidth(DEFAULT_WIDTH);
+        setWidthThreshold(DEFAULT_WIDTH_THRESHOLD);
+        this.savedWidth = DEFAULT_WIDTH;
+    }
+
     /**
      * The splitPane in  the SplitTabPane
      */
@@ -80,6 +108,7 @@ public class SplitTabPosition {
     private double savedPosition;
 
     public double getSavedPosition() {
+        validateDeltas();
         if(savedPosition==0){
             return defaultPosition;
         } else {
@@ -107,6 +136,7 @@ public class SplitTabPosition {
     private double deltaThreshold;
 
     public double getDeltaThreshold() {
+        validateDeltas();
         return deltaThreshold;
     }
 
@@ -116,6 +146,7 @@ public class SplitTabPosition {
     private double positionThreshold;
 
     public double getPositionThreshold() {
+        validateDeltas();
         return positionThreshold;
     }
 
@@ -143,6 +174,7 @@ public class SplitTabPosition {
     private double defaultDelta;
 
     public double getDefaultDelta() {
+        validateDeltas();
         return defaultDelta;
     }
 
@@ -152,13 +184,22 @@ public class SplitTabPosition {
     private double defaultPosition;
 
     public double getDefaultPosition() {
+        validateDeltas();
         return defaultPosition;
     }
 
+    /**
+     * Indicates if the tabPane is hidden, when there is no SplitPane
+     */
+    private boolean hidden;
+
     /**
      * Indicates if the tabPane should be considered hidden
      */
     public boolean isHidden(){
+        if(splitPane == null)
+            return hidden;
+        validateDeltas();
         double currentPosition = splitPane.getDividerPositions()[0];
         double currentDelta = deltaFromPosition(currentPosition);
         return currentDelta <= deltaThreshold;
@@ -187,6 +228,43 @@ public class SplitTabPosition {
         setSide(tabPane.getSide());
     }
 
+    /**
+     * Restore the saved size of the tabPane, e.g. from a SplitTabLayout.
+     * Can be called before the SplitPane is laid out, the divider is then moved to keep the saved width.
+     * @param savedWidth    The width (or height) of the tabPane when it is shown
+     * @param savedPosition The divider position when the tabPane is shown
+     */
+    public void restore(double savedWidth, double savedPosition){
+        this.savedWidth = savedWidth;
+        this.savedPosition = savedPosition;
+        this.savedDelta = deltaFromPosition(savedPosition);
+    }
+
+    /**
+     * Hide the tabPane, or show it with its saved width
+     */
+    public void setHidden(boolean hidden){
+        if(splitPane == null){
+            this.hidden = hidden;
+        } else if(divider != null){
+            divider.setPosition(hidden ? hiddenPosition : getSavedPosition());
+        }
+    }
+
+    /**
+     * Resize the tabPane, e.g. while its divider is dragged.
+     * Below the width threshold the tabPane is hidden and its saved width is kept.
+     * @param width The new width (or height) of the tabPane
+     */
+    public void resize(double width){
+        if(splitPane == null){
+            setSavedWidth(width);
+            this.hidden = width <= widthThreshold;
+        } else if(divider != null){
+            divider.setPosition(positionFromDelta(deltaFromWidth(width)));
+        }
+    }
+
     /**
      * Set the deltaThreshold
      */
@@ -257,7 +335,7 @@ public class SplitTabPosition {
                 defaultPosition = 1 - defaultDelta;
                 break;
         }
-        splitPane.getDividers().get(0).positionProperty().addListener(positionListener);
+        watchSize();
     }
 
     /*******************************************************************************************************************
@@ -311,6 +389,7 @@ public class SplitTabPosition {
      * Save the given position
      */
     private void setSavedPosition(double position){
+        validateDeltas();
         if(position<0 || position>1){
             setSavedWidth(DEFAULT_WIDTH);
         } else {
@@ -329,31 +408,157 @@ public class SplitTabPosition {
      */
     private ChangeListener<Number> positionListener;
 
+    /**
+     * The divider whose position is listened to, the SplitPane creates new dividers when its items change
+     */
+    private SplitPane.Divider divider;
+
+    /**
+     * Indicates if the divider is being moved by refresh(), the position is then not saved
+     */
+    private boolean adjusting = false;
+
     private void initPositionListener(){
         this.positionListener = (observable, oldValue, newValue) ->{
-            setSavedPosition(newValue.doubleValue());
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.listener(Component.SPLIT_TAB_POSITION);
+            if(!adjusting)
+                setSavedPosition(newValue.doubleValue());
         };
     }
 
+    private void watchDivider(){
+        SplitPane.Divider first = splitPane.getDividers().isEmpty() ? null : splitPane.getDividers().get(0);
+        if(first == divider)
+            return;
+        if(divider != null)
+            divider.positionProperty().removeListener(positionListener);
+        divider = first;
+        if(divider != null)
+            divider.positionProperty().addListener(positionListener);
+    }
+
+    /**
+     * Listen to the SplitPane size along the axis of the divider
+     */
+    private InvalidationListener sizeListener;
+
     /**
-     * Listen to the SplitPane width and height
+     * The size listened to, the width or the height of the SplitPane
      */
-    private ChangeListener<Number> sizeListener;
+    private ObservableDoubleValue watchedSize;
+
+    /**
+     * Indicates if the SplitPane was resized since the last refresh
+     */
+    private boolean resized = false;
+
+    /**
+     * Indicates if the SplitPane was resized since the deltas were last computed
+     */
+    private boolean sizeChanged = false;
+
+    /**
+     * Indicates if a refresh is scheduled after the current pulse
+     */
+    private boolean refreshScheduled = false;
+
+    /**
+     * Indicates if the SplitTabPane refreshes the position on each layout, the resizes of the SplitPane then
+     * happen in that layout and need no refresh after the pulse
+     */
+    private boolean refreshedByLayout = false;
 
     private void initSizeListener(){
-        this.sizeListener = (observable, oldValue, newValue) -> {
-            refreshDeltas();
-            if(!isHidden()) {
-                double newDelta = deltaFromWidth(savedWidth);
-                double newPosition = positionFromDelta(newDelta);
-                splitPane.getDividers().get(0).setPosition(newPosition);
-            } else {
-                splitPane.getDividers().get(0).setPosition(hiddenPosition);
-                /* FIXME Strange UI bug when going from fullscreen hidden to small window */
+        this.sizeListener = observable -> {
+            if(ComponentMetrics.ENABLED)
+                ComponentMetrics.listener(Component.SPLIT_TAB_POSITION);
+            sizeChanged = true;
+            if(resized)
+                return;
+            resized = true;
+            /* A SplitPane built outside of the JavaFX Application Thread is refreshed when it is first laid out */
+            if(!refreshedByLayout && !refreshScheduled && Platform.isFxApplicationThread()){
+                refreshScheduled = true;
+                Platform.runLater(() -> {
+                    refreshScheduled = false;
+                    refresh();
+                });
             }
         };
     }
 
+    private void watchSize(){
+        if(splitPane == null)
+            return;
+        ObservableDoubleValue size = side == Side.LEFT || side == Side.RIGHT
+                ? splitPane.widthProperty() : splitPane.heightProperty();
+        if(size == watchedSize)
+            return;
+        if(watchedSize != null)
+            watchedSize.removeListener(sizeListener);
+        boolean axisChanged = watchedSize != null;
+        watchedSize = size;
+        /* Validate the property so that the next change is reported */
+        watchedSize.get();
+        watchedSize.addListener(sizeListener);
+        if(axisChanged)
+            sizeChanged = true;
+    }
+
+    /**
+     * Compute the deltas again if the SplitPane was resized, they are needed before the divider is moved
+     * when its position is saved or read
+     */
+    private void validateDeltas(){
+        if(sizeChanged){
+            sizeChanged = false;
+            /* Validate the size so that the next resize is reported */
+            watchedSize.get();
+            refreshDeltas();
+        }
+    }
+
+    /**
+     * Refresh the position from the layout of the SplitTabPane, right after it resized the SplitPane.
+     * The later resizes are then only refreshed by the layouts.
+     */
+    void layoutRefresh(){
+        refreshedByLayout = true;
+        refresh();
+    }
+
+    /**
+     * Move the divider to keep the width of the tabPane if the SplitPane was resized since the last refresh.
+     * Called once per layout of the SplitTabPane.
+     */
+    public void refresh(){
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.layout(Component.SPLIT_TAB_POSITION);
+        if(!resized)
+            return;
+        resized = false;
+        validateDeltas();
+        if(divider == null)
+            return;
+        double newPosition;
+        if(!isHidden()) {
+            double newDelta = deltaFromWidth(savedWidth);
+            newPosition = positionFromDelta(newDelta);
+        } else {
+            newPosition = hiddenPosition;
+            /* FIXME Strange UI bug when going from fullscreen hidden to small window */
+        }
+        if(ComponentMetrics.ENABLED)
+            ComponentMetrics.update(Component.SPLIT_TAB_POSITION);
+        adjusting = true;
+        try {
+            divider.setPosition(newPosition);
+        } finally {
+            adjusting = false;
+        }
+    }
+
     /*******************************************************************************************************************
      *                                                                                                                 *
      * CONVERSION                                                                                                      *
@@ -364,6 +569,8 @@ public class SplitTabPosition {
      * Get the splitPane total width
      */
     public double getSplitPaneWidth(){
+        if(splitPane == null)
+            return 0;
         switch (side){
             case LEFT:
             case RIGHT:
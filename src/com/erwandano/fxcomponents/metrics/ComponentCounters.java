@@ -0,0 +1,75 @@
+package com.erwandano.fxcomponents.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of a component type.
+ * They are incremented on the JavaFX Application Thread and read from the JMX threads, a LongAdder keeps the
+ * increments cheap and allocation free.
+ */
+public class ComponentCounters implements ComponentCountersMXBean {
+
+    private final LongAdder layoutPasses = new LongAdder();
+
+    private final LongAdder cssReapplications = new LongAdder();
+
+    private final LongAdder listenerInvocations = new LongAdder();
+
+    private final LongAdder updates = new LongAdder();
+
+    /**
+     * The time the counters were created or reset, in nanoseconds
+     */
+    private volatile long start = System.nanoTime();
+
+    void layout(){
+        layoutPasses.increment();
+    }
+
+    void css(){
+        cssReapplications.increment();
+    }
+
+    void listener(){
+        listenerInvocations.increment();
+    }
+
+    void update(){
+        updates.increment();
+    }
+
+    @Override
+    public long getLayoutPasses() {
+        return layoutPasses.sum();
+    }
+
+    @Override
+    public long getCssReapplications() {
+        return cssReapplications.sum();
+    }
+
+    @Override
+    public long getListenerInvocations() {
+        return listenerInvocations.sum();
+    }
+
+    @Override
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    @Override
+    public double getUpdateRate() {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return seconds > 0 ? updates.sum() / seconds : 0;
+    }
+
+    @Override
+    public void reset() {
+        layoutPasses.reset();
+        cssReapplications.reset();
+        listenerInvocations.reset();
+        updates.reset();
+        start = System.nanoTime();
+    }
+}
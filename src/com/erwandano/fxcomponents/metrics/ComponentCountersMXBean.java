@@ -0,0 +1,22 @@
+package com.erwandano.fxcomponents.metrics;
+
+/**
+ * The counters of a component type, as seen over JMX
+ */
+public interface ComponentCountersMXBean {
+
+    long getLayoutPasses();
+
+    long getCssReapplications();
+
+    long getListenerInvocations();
+
+    long getUpdates();
+
+    /**
+     * @return The number of updates per second since the counters were created or reset
+     */
+    double getUpdateRate();
+
+    void reset();
+}
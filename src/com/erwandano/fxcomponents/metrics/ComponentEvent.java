@@ -0,0 +1,28 @@
+package com.erwandano.fxcomponents.metrics;
+
+/**
+ * A Flight Recorder event emitted by a component, created with the ComponentEvents factory methods.
+ * The events are timed from begin() to commit().
+ */
+public interface ComponentEvent {
+
+    void begin();
+
+    /**
+     * @return True if the event lasted long enough to be recorded, its fields only need to be set then
+     */
+    boolean shouldCommit();
+
+    void commit();
+
+    /**
+     * A change of the icon of a FAButton
+     */
+    interface IconChange extends ComponentEvent {
+
+        /**
+         * @param found True if a glyph matches the icon name
+         */
+        void setFound(boolean found);
+    }
+}
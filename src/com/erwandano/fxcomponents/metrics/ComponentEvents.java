@@ -0,0 +1,91 @@
+package com.erwandano.fxcomponents.metrics;
+
+/**
+ * JDK Flight Recorder events emitted by the components, to find which component is responsible for a long pulse.
+ *
+ * When Flight Recorder is available (JDK 11, or JDK 8u272 and later), the events are registered when the components
+ * are first used, in the FXComponents category. They are disabled by default, and emitted once a recording
+ * enables them, e.g. jcmd &lt;pid&gt; JFR.start settings=default,src-jfr/fxcomponents.jfc. Starting the JVM with
+ * -Dfxcomponents.jfr=false leaves them unregistered.
+ *
+ * The event classes are in the src-jfr source tree, only compiled when the build JDK has Flight Recorder. They are
+ * looked up by name, so the rest of the library neither references nor loads them, and the events are simply
+ * unavailable when the library was built without them.
+ *
+ * Every call site is guarded by the ENABLED constant, and the factory methods return null while no recording
+ * enables the event, so an event is only timed and committed when it is recorded.
+ */
+public final class ComponentEvents {
+
+    /**
+     * The factory of the Flight Recorder events, compiled from src-jfr
+     */
+    private static final String FACTORY_CLASS = "com.erwandano.fxcomponents.metrics.FlightRecorderEvents";
+
+    private static final Factory FACTORY = "false".equals(System.getProperty("fxcomponents.jfr"))
+            ? null : loadFactory();
+
+    /**
+     * True if the JVM has Flight Recorder, the events were built and they were not turned off with
+     * -Dfxcomponents.jfr=false
+     */
+    public static final boolean ENABLED = FACTORY != null;
+
+    private ComponentEvents(){
+    }
+
+    /**
+     * @param tab   The text of the selected tab
+     * @return      The event of a tab selection, lasting until the SplitTabPane is laid out, or null if no
+     *              recording enables it
+     */
+    public static ComponentEvent tabSelection(String tab){
+        return FACTORY.tabSelection(tab);
+    }
+
+    /**
+     * @return The event of a collapse or an expansion of the TabPane of a SplitTabPane, lasting until its transition
+     *         ends, or null if no recording enables it
+     */
+    public static ComponentEvent tabPaneVisibility(boolean collapsed, boolean animated){
+        return FACTORY.tabPaneVisibility(collapsed, animated);
+    }
+
+    /**
+     * @param icon  The icon name given to FAButton.setIcon()
+     * @return      The event of the icon change, or null if no recording enables it
+     */
+    public static ComponentEvent.IconChange iconChange(String icon){
+        return FACTORY.iconChange(icon);
+    }
+
+    /**
+     * @return The event of the layout of an InfoView, or null if no recording enables it
+     */
+    public static ComponentEvent infoViewLayout(int rows, double width, boolean resized){
+        return FACTORY.infoViewLayout(rows, width, resized);
+    }
+
+    private static Factory loadFactory(){
+        try {
+            return (Factory) Class.forName(FACTORY_CLASS, true, ComponentEvents.class.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the events, implemented in src-jfr. Returns null for an event that no recording enables.
+     */
+    interface Factory {
+
+        ComponentEvent tabSelection(String tab);
+
+        ComponentEvent tabPaneVisibility(boolean collapsed, boolean animated);
+
+        ComponentEvent.IconChange iconChange(String icon);
+
+        ComponentEvent infoViewLayout(int rows, double width, boolean resized);
+    }
+}
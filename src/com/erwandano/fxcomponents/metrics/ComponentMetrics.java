@@ -0,0 +1,140 @@
+package com.erwandano.fxcomponents.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Opt-in registry of what the components cost, exposed over JMX.
+ *
+ * The metrics are enabled by starting the JVM with -Dfxcomponents.metrics=true. The counters of each component
+ * type are then registered as com.erwandano.fxcomponents:type=ComponentMetrics,name=[component], and the latency
+ * histograms as com.erwandano.fxcomponents:type=Latency,name=[operation].
+ *
+ * Every call site is guarded by the ENABLED constant :
+ *
+ *   if(ComponentMetrics.ENABLED)
+ *       ComponentMetrics.layout(Component.INFO_VIEW);
+ *
+ * When the metrics are disabled the JIT removes the guarded code, nothing is counted or allocated.
+ */
+public final class ComponentMetrics {
+
+    /**
+     * True if the JVM was started with -Dfxcomponents.metrics=true
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("fxcomponents.metrics");
+
+    /**
+     * The JMX domain of the metrics
+     */
+    public static final String DOMAIN = "com.erwandano.fxcomponents";
+
+    /**
+     * The component types whose cost is measured
+     */
+    public enum Component {
+        SPLIT_TAB_PANE("SplitTabPane"),
+        SPLIT_TAB_POSITION("SplitTabPosition"),
+        INFO_VIEW("InfoView"),
+        TEXT_PROGRESS_BAR("TextProgressBar"),
+        FA_BUTTON("FAButton");
+
+        private final String typeName;
+
+        private final ComponentCounters counters = new ComponentCounters();
+
+        Component(String typeName){
+            this.typeName = typeName;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        public ComponentCounters getCounters() {
+            return counters;
+        }
+    }
+
+    /**
+     * Time from the selection of a tab of a SplitTabPane to the layout of the SplitTabPane
+     */
+    public static final LatencyHistogram TAB_SWITCH = new LatencyHistogram();
+
+    /**
+     * Duration of the layout of an InfoView whose width changed
+     */
+    public static final LatencyHistogram INFO_VIEW_RESIZE = new LatencyHistogram();
+
+    static {
+        if(ENABLED)
+            register();
+    }
+
+    private ComponentMetrics(){
+    }
+
+    /**
+     * A component was laid out
+     */
+    public static void layout(Component component){
+        component.counters.layout();
+    }
+
+    /**
+     * A component changed a style class or a pseudo-class, the node will go through a CSS pass
+     */
+    public static void css(Component component){
+        component.counters.css();
+    }
+
+    /**
+     * A listener of a component was invoked
+     */
+    public static void listener(Component component){
+        component.counters.listener();
+    }
+
+    /**
+     * The state of a component was updated
+     */
+    public static void update(Component component){
+        component.counters.update();
+    }
+
+    /**
+     * Reset every counter and histogram
+     */
+    public static void reset(){
+        for(Component component : Component.values()){
+            component.counters.reset();
+        }
+        TAB_SWITCH.reset();
+        INFO_VIEW_RESIZE.reset();
+    }
+
+    /**
+     * Register the counters and histograms in the platform MBean server
+     */
+    private static void register(){
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for(Component component : Component.values()){
+                register(server, "ComponentMetrics", component.typeName, component.counters);
+            }
+            register(server, "Latency", "TabSwitch", TAB_SWITCH);
+            register(server, "Latency", "InfoViewResize", INFO_VIEW_RESIZE);
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register the component metrics", e);
+        }
+    }
+
+    private static void register(MBeanServer server, String type, String name, Object mbean) throws JMException {
+        ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + name);
+        /* Several class loaders may load the library in the same JVM, the first one keeps the names */
+        if(!server.isRegistered(objectName))
+            server.registerMBean(mbean, objectName);
+    }
+}
@@ -0,0 +1,115 @@
+package com.erwandano.fxcomponents.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations with power of two buckets, in microseconds.
+ * Recording a duration does not allocate, the percentiles are the upper bound of the bucket they fall in.
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+    private static final int BUCKETS = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder total = new LongAdder();
+
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record a duration
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long nanos){
+        long micros = Math.max(0, nanos / 1000);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    /**
+     * Record the time elapsed since a start time
+     * @param start The start time, from System.nanoTime()
+     */
+    public void recordSince(long start){
+        record(System.nanoTime() - start);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : total.sum() / 1e6 / n;
+    }
+
+    @Override
+    public double getMax() {
+        return max.get() / 1e6;
+    }
+
+    @Override
+    public double get50thPercentile() {
+        return percentile(0.5);
+    }
+
+    @Override
+    public double get90thPercentile() {
+        return percentile(0.9);
+    }
+
+    @Override
+    public double get99thPercentile() {
+        return percentile(0.99);
+    }
+
+    /**
+     * @param fraction  The fraction of the durations, between 0 and 1
+     * @return          The upper bound of the bucket holding that fraction of the durations, in milliseconds
+     */
+    private double percentile(double fraction){
+        long[] counts = getBuckets();
+        long n = 0;
+        for(long c : counts){
+            n += c;
+        }
+        if(n == 0)
+            return 0;
+        long rank = (long) Math.ceil(fraction * n);
+        long seen = 0;
+        for(int i=0; i<BUCKETS; i++){
+            seen += counts[i];
+            if(seen >= rank)
+                return Math.min((1L << i) / 1e3, getMax());
+        }
+        return getMax();
+    }
+
+    @Override
+    public long[] getBuckets() {
+        long[] counts = new long[BUCKETS];
+        for(int i=0; i<BUCKETS; i++){
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for(int i=0; i<BUCKETS; i++){
+            buckets.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+}
@@ -0,0 +1,26 @@
+package com.erwandano.fxcomponents.metrics;
+
+/**
+ * A latency histogram, as seen over JMX. The durations are in milliseconds.
+ */
+public interface LatencyHistogramMXBean {
+
+    long getCount();
+
+    double getMean();
+
+    double getMax();
+
+    double get50thPercentile();
+
+    double get90thPercentile();
+
+    double get99thPercentile();
+
+    /**
+     * @return The number of recorded durations per bucket, bucket i holding the durations in [2^(i-1), 2^i) microseconds
+     */
+    long[] getBuckets();
+
+    void reset();
+}
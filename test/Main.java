@@ -1,3 +1,4 @@
+import com.erwandano.fxcomponents.FAFont;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.JavaFXBuilderFactory;
@@ -28,6 +29,7 @@ public class Main extends Application {
 
 
     public static void main(String[] args) {
+        FAFont.prewarm();
         launch(args);
     }
 }
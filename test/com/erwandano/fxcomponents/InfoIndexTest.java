@@ -0,0 +1,111 @@
+package com.erwandano.fxcomponents;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class InfoIndexTest {
+
+    private InfoIndex index;
+
+    private InfoItem name;
+
+    private InfoItem version;
+
+    private InfoItem path;
+
+    @Before
+    public void setUp() {
+        index = new InfoIndex();
+        name = new InfoItem("Name");
+        version = new InfoItem("Version");
+        path = new InfoItem("Path");
+        index.put(name, "Name", "FX Components");
+        index.put(version, "Version", "1.0.2-SNAPSHOT");
+        index.put(path, "Path", "C:\\Program Files\\FXComponents");
+    }
+
+    private Set<InfoItem> search(String query) throws Exception {
+        return index.search(query).get(5, TimeUnit.SECONDS);
+    }
+
+    private static Set<InfoItem> items(InfoItem... items) {
+        return new HashSet<>(Arrays.asList(items));
+    }
+
+    @Test
+    public void searchMatchesLabelsAndTexts() throws Exception {
+        assertEquals(items(name), search("name"));
+        assertEquals(items(version), search("snapshot"));
+    }
+
+    @Test
+    public void searchIgnoresCase() throws Exception {
+        assertEquals(items(path), search("PROGRAM"));
+        assertEquals(items(version), search("VeRsIoN"));
+    }
+
+    @Test
+    public void searchMatchesPrefixes() throws Exception {
+        assertEquals(items(name, path), search("fx"));
+        assertEquals(items(name), search("comp"));
+        assertEquals(Collections.<InfoItem>emptySet(), search("components2"));
+    }
+
+    @Test
+    public void searchMatchesEveryWord() throws Exception {
+        assertEquals(items(name), search("fx name"));
+        assertEquals(items(path), search("files fxcomp"));
+        assertEquals(Collections.<InfoItem>emptySet(), search("name snapshot"));
+    }
+
+    @Test
+    public void searchMatchesNothingWithoutWords() throws Exception {
+        assertEquals(Collections.<InfoItem>emptySet(), search(""));
+        assertEquals(Collections.<InfoItem>emptySet(), search(" - ; "));
+        assertEquals(Collections.<InfoItem>emptySet(), search(null));
+    }
+
+    @Test
+    public void putReplacesThePreviousTexts() throws Exception {
+        index.put(version, "Version", "2.0");
+        assertEquals(Collections.<InfoItem>emptySet(), search("snapshot"));
+        assertEquals(items(version), search("2"));
+    }
+
+    @Test
+    public void removeForgetsTheItem() throws Exception {
+        index.remove(name);
+        assertEquals(items(path), search("fx"));
+        assertEquals(Collections.<InfoItem>emptySet(), search("name"));
+        index.remove(name);
+        assertEquals(items(path), search("fx"));
+    }
+
+    @Test
+    public void matchesChecksEveryWord() {
+        assertTrue(InfoIndex.matches("fx comp", "Name", "FX Components"));
+        assertTrue(InfoIndex.matches("NAME", "Name", null));
+        assertFalse(InfoIndex.matches("fx snapshot", "Name", "FX Components"));
+        assertFalse(InfoIndex.matches("components", "Name", "FX Component"));
+        assertFalse(InfoIndex.matches("", "Name", "FX Components"));
+    }
+
+    @Test
+    public void tokenizeSplitsOnNonLetters() {
+        List<String> tokens = new ArrayList<>();
+        InfoIndex.tokenize("C:\\Program Files\\FX-Components 1.0", tokens);
+        assertEquals(Arrays.asList("c", "program", "files", "fx", "components", "1", "0"), tokens);
+    }
+}
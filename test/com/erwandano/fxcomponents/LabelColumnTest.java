@@ -0,0 +1,93 @@
+package com.erwandano.fxcomponents;
+
+import javafx.scene.text.Font;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LabelColumnTest {
+
+    private LabelColumn column;
+
+    private InfoItem first;
+
+    private InfoItem second;
+
+    private InfoItem third;
+
+    @Before
+    public void setUp() {
+        column = new LabelColumn();
+        first = new InfoItem();
+        second = new InfoItem();
+        third = new InfoItem();
+    }
+
+    @Test
+    public void widthIsZeroWithoutLabel() {
+        assertEquals(0, column.getWidth(), 0);
+    }
+
+    @Test
+    public void widthIsTheWidestLabel() {
+        column.update(first, 40);
+        column.update(second, 70);
+        column.update(third, 55);
+        assertEquals(70, column.getWidth(), 0);
+    }
+
+    @Test
+    public void removingTheWidestLabelFallsBackToTheNextOne() {
+        column.update(first, 40);
+        column.update(second, 70);
+        column.update(third, 55);
+        column.remove(second);
+        assertEquals(55, column.getWidth(), 0);
+        column.remove(third);
+        assertEquals(40, column.getWidth(), 0);
+        column.remove(first);
+        assertEquals(0, column.getWidth(), 0);
+    }
+
+    @Test
+    public void relabelingReplacesThePreviousWidth() {
+        column.update(first, 40);
+        column.update(second, 70);
+        column.update(second, 30);
+        assertEquals(40, column.getWidth(), 0);
+        column.update(first, 40);
+        column.update(first, 90);
+        assertEquals(90, column.getWidth(), 0);
+    }
+
+    @Test
+    public void equalWidthsAreCountedOncePerItem() {
+        column.update(first, 70);
+        column.update(second, 70);
+        column.update(first, 70);
+        column.remove(first);
+        assertEquals(70, column.getWidth(), 0);
+        column.remove(second);
+        assertEquals(0, column.getWidth(), 0);
+    }
+
+    @Test
+    public void removingAnUnknownItemChangesNothing() {
+        column.update(first, 40);
+        column.remove(second);
+        column.remove(second);
+        assertEquals(40, column.getWidth(), 0);
+    }
+
+    @Test
+    public void emptyLabelsAreNotMeasured() {
+        assertEquals(0, LabelColumn.measure(null, Font.getDefault()), 0);
+        assertEquals(0, LabelColumn.measure("", Font.getDefault()), 0);
+        column.update(first, 40);
+        column.update(second);
+        assertEquals(40, column.getWidth(), 0);
+        column.update(first);
+        assertEquals(0, column.getWidth(), 0);
+    }
+}
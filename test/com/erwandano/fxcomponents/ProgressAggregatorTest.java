@@ -0,0 +1,86 @@
+package com.erwandano.fxcomponents;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ProgressAggregatorTest {
+
+    private ProgressAggregator aggregator;
+
+    @Before
+    public void setUp() {
+        aggregator = new ProgressAggregator();
+    }
+
+    @Test
+    public void progressIsUnknownWithoutWork() {
+        assertEquals(-1, aggregator.getProgress(), 0);
+        aggregator.register(0);
+        assertEquals(-1, aggregator.getProgress(), 0);
+    }
+
+    @Test
+    public void handlesAddUp() {
+        ProgressAggregator.Handle first = aggregator.register(100);
+        ProgressAggregator.Handle second = aggregator.register(300);
+        first.advance(50);
+        second.advance(50);
+        assertEquals(400, aggregator.getTotalWork(), 0);
+        assertEquals(100, aggregator.getWorkDone(), 0);
+        assertEquals(0.25, aggregator.getProgress(), 0);
+        first.done();
+        second.done();
+        assertEquals(400, aggregator.getWorkDone(), 0);
+        assertEquals(1, aggregator.getProgress(), 0);
+    }
+
+    @Test
+    public void advanceStopsAtTheTotalWork() {
+        ProgressAggregator.Handle handle = aggregator.register(100);
+        handle.advance(80);
+        handle.advance(80);
+        assertEquals(100, handle.getWorkDone(), 0);
+        assertEquals(100, aggregator.getWorkDone(), 0);
+        handle.done();
+        assertEquals(100, aggregator.getWorkDone(), 0);
+    }
+
+    @Test
+    public void advanceIgnoresNegativeWork() {
+        ProgressAggregator.Handle handle = aggregator.register(100);
+        handle.advance(40);
+        handle.advance(-10);
+        assertEquals(40, handle.getWorkDone(), 0);
+        assertEquals(40, aggregator.getWorkDone(), 0);
+    }
+
+    @Test
+    public void setWorkDoneOnlyMovesForward() {
+        ProgressAggregator.Handle handle = aggregator.register(100);
+        handle.setWorkDone(30);
+        handle.setWorkDone(60);
+        handle.setWorkDone(20);
+        assertEquals(60, handle.getWorkDone(), 0);
+        assertEquals(60, aggregator.getWorkDone(), 0);
+        handle.setWorkDone(500);
+        assertEquals(100, aggregator.getWorkDone(), 0);
+    }
+
+    @Test
+    public void resetForgetsTheRegisteredHandles() {
+        ProgressAggregator.Handle before = aggregator.register(100);
+        before.advance(50);
+        aggregator.reset();
+        assertEquals(0, aggregator.getWorkDone(), 0);
+        assertEquals(0, aggregator.getTotalWork(), 0);
+        assertEquals(-1, aggregator.getProgress(), 0);
+
+        ProgressAggregator.Handle after = aggregator.register(200);
+        before.done();
+        after.advance(50);
+        assertEquals(50, aggregator.getWorkDone(), 0);
+        assertEquals(0.25, aggregator.getProgress(), 0);
+    }
+}
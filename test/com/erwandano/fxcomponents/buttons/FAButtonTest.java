@@ -0,0 +1,47 @@
+package com.erwandano.fxcomponents.buttons;
+
+import com.sun.javafx.application.PlatformImpl;
+import org.controlsfx.glyphfont.FontAwesome;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class FAButtonTest {
+
+    /**
+     * FAButton is a Control, its class cannot be loaded before the JavaFX toolkit is running
+     */
+    @BeforeClass
+    public static void startToolkit() {
+        try {
+            PlatformImpl.startup(() -> {});
+        } catch (IllegalStateException alreadyStarted) {
+            // Started by a previous test
+        }
+    }
+
+    @Test
+    public void findGlyphFindsEveryGlyph() {
+        for (FontAwesome.Glyph glyph : FontAwesome.Glyph.values()) {
+            assertSame(glyph, FAButton.findGlyph(glyph.name()));
+        }
+    }
+
+    @Test
+    public void findGlyphIgnoresCase() {
+        assertEquals(FontAwesome.Glyph.APPLE, FAButton.findGlyph("apple"));
+        assertEquals(FontAwesome.Glyph.APPLE, FAButton.findGlyph("Apple"));
+        assertEquals(FontAwesome.Glyph.ARROW_UP, FAButton.findGlyph("arrow_up"));
+    }
+
+    @Test
+    public void findGlyphReturnsNullForUnknownName() {
+        assertNull(FAButton.findGlyph(null));
+        assertNull(FAButton.findGlyph(""));
+        assertNull(FAButton.findGlyph("NOT_A_GLYPH"));
+        assertNull(FAButton.findGlyph("arrow-up"));
+    }
+}
@@ -0,0 +1,86 @@
+package com.erwandano.fxcomponents.control;
+
+import javafx.geometry.Side;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SplitTabLayoutTest {
+
+    @Test
+    public void toStringWritesEveryField() {
+        SplitTabLayout layout = new SplitTabLayout(Side.LEFT, 300, 0.25, 2, false);
+        assertEquals("LEFT;300.0;0.25;2;false", layout.toString());
+    }
+
+    @Test
+    public void parseReadsEveryField() {
+        SplitTabLayout layout = SplitTabLayout.parse("BOTTOM;120.5;0.75;-1;true");
+        assertEquals(Side.BOTTOM, layout.getSide());
+        assertEquals(120.5, layout.getSavedWidth(), 0);
+        assertEquals(0.75, layout.getSavedPosition(), 0);
+        assertEquals(-1, layout.getSelectedIndex());
+        assertTrue(layout.isHidden());
+    }
+
+    @Test
+    public void parseReadsBackToString() {
+        for (Side side : Side.values()) {
+            SplitTabLayout layout = new SplitTabLayout(side, 217.33333333333334, 1d / 3, 5, side.isVertical());
+            SplitTabLayout parsed = SplitTabLayout.parse(layout.toString());
+            assertEquals(layout, parsed);
+            assertEquals(layout.hashCode(), parsed.hashCode());
+            assertEquals(layout.toString(), parsed.toString());
+        }
+    }
+
+    @Test
+    public void equalsComparesEveryField() {
+        SplitTabLayout layout = new SplitTabLayout(Side.TOP, 100, 0.5, 0, false);
+        assertEquals(layout, new SplitTabLayout(Side.TOP, 100, 0.5, 0, false));
+        assertNotEquals(layout, new SplitTabLayout(Side.RIGHT, 100, 0.5, 0, false));
+        assertNotEquals(layout, new SplitTabLayout(Side.TOP, 101, 0.5, 0, false));
+        assertNotEquals(layout, new SplitTabLayout(Side.TOP, 100, 0.6, 0, false));
+        assertNotEquals(layout, new SplitTabLayout(Side.TOP, 100, 0.5, 1, false));
+        assertNotEquals(layout, new SplitTabLayout(Side.TOP, 100, 0.5, 0, true));
+        assertFalse(layout.equals(layout.toString()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorRejectsNullSide() {
+        new SplitTabLayout(null, 100, 0.5, 0, false);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsNull() {
+        SplitTabLayout.parse(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsMissingField() {
+        SplitTabLayout.parse("LEFT;300.0;0.25;2");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsExtraField() {
+        SplitTabLayout.parse("LEFT;300.0;0.25;2;false;0");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsUnknownSide() {
+        SplitTabLayout.parse("left;300.0;0.25;2;false");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsBadWidth() {
+        SplitTabLayout.parse("LEFT;wide;0.25;2;false");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseRejectsBadIndex() {
+        SplitTabLayout.parse("LEFT;300.0;0.25;2.5;false");
+    }
+}